@@ -23,14 +23,20 @@
  */
 package net.kyori.adventure.platform;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
+import net.kyori.adventure.title.Title;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A provider for creating {@link Audience}s.
@@ -126,6 +132,24 @@ public interface AudienceProvider extends AutoCloseable {
    */
   @NotNull Audience server(final @NotNull String serverName);
 
+  /**
+   * Gets an audience for online players within a distance of a position in a world.
+   *
+   * <p>The audience is dynamically updated as players move. Platforms that do not track
+   * player positions return the {@link #world(Key) world's audience}.</p>
+   *
+   * @param world identifier for a world
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @param radius the distance from the position
+   * @return the audience of nearby players
+   * @since 4.5.0
+   */
+  default @NotNull Audience nearby(final @NotNull Key world, final double x, final double y, final double z, final double radius) {
+    return this.world(world);
+  }
+
   /**
    * Return a component flattener that can use game data to resolve extra information about components.
    *
@@ -136,6 +160,88 @@ public interface AudienceProvider extends AutoCloseable {
    */
   @NotNull ComponentFlattener flattener();
 
+  /**
+   * Shows an action bar that is kept from fading, until it is hidden or its time to live has passed.
+   *
+   * <p>An audience can have several persistent action bars, each in its own slot. Each viewer is shown
+   * the one with the highest priority, and the platform sends it again before it fades. This lets
+   * plugins share the action bar without overwriting each other every tick.</p>
+   *
+   * <p>This applies to the viewers the audience contains at the time of the call. If the platform
+   * cannot keep the action bar from fading, it is sent once.</p>
+   *
+   * @param audience an audience from this provider
+   * @param slot the slot to show the action bar in, replacing any action bar already there
+   * @param priority the priority of the slot
+   * @param message the action bar
+   * @param ttl how long to show the action bar for, or {@code null} to show it until it is hidden
+   * @since 4.5.0
+   */
+  default void showPersistentActionBar(final @NotNull Audience audience, final @NotNull Key slot, final int priority, final @NotNull Component message, final @Nullable Duration ttl) {
+    audience.sendActionBar(message);
+  }
+
+  /**
+   * Hides a persistent action bar.
+   *
+   * <p>The action bar in the next highest priority slot, if any, is shown in its place.</p>
+   *
+   * @param audience an audience from this provider
+   * @param slot the slot of the action bar
+   * @see #showPersistentActionBar(Audience, Key, int, Component, Duration)
+   * @since 4.5.0
+   */
+  default void hidePersistentActionBar(final @NotNull Audience audience, final @NotNull Key slot) {
+  }
+
+  /**
+   * Sends a system message to an audience, rendering and serializing it on the provider's render executor.
+   *
+   * <p>If no render executor was {@link Builder#renderExecutor(Executor) configured}, the message is sent
+   * on the calling thread.</p>
+   *
+   * @param audience an audience
+   * @param message a message
+   * @return a future completed once the message was sent, or completed exceptionally if it could not be rendered
+   * @since 4.5.0
+   */
+  default @NotNull CompletableFuture<Void> sendMessageAsync(final @NotNull Audience audience, final @NotNull Component message) {
+    audience.sendMessage(message);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Sends an action bar to an audience, rendering and serializing it on the provider's render executor.
+   *
+   * <p>If no render executor was {@link Builder#renderExecutor(Executor) configured}, the action bar is sent
+   * on the calling thread.</p>
+   *
+   * @param audience an audience
+   * @param message an action bar
+   * @return a future completed once the action bar was sent
+   * @since 4.5.0
+   */
+  default @NotNull CompletableFuture<Void> sendActionBarAsync(final @NotNull Audience audience, final @NotNull Component message) {
+    audience.sendActionBar(message);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Shows a title to an audience, rendering and serializing it on the provider's render executor.
+   *
+   * <p>If no render executor was {@link Builder#renderExecutor(Executor) configured}, the title is shown
+   * on the calling thread.</p>
+   *
+   * @param audience an audience
+   * @param title a title
+   * @return a future completed once the title was shown
+   * @since 4.5.0
+   */
+  default @NotNull CompletableFuture<Void> showTitleAsync(final @NotNull Audience audience, final @NotNull Title title) {
+    audience.showTitle(title);
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Closes the provider and forces audiences to be empty.
    *
@@ -202,6 +308,26 @@ public interface AudienceProvider extends AutoCloseable {
         .componentRenderer(componentRenderer.mapContext(partition));
     }
 
+    /**
+     * Sets the executor that renders and serializes messages sent with the provider's asynchronous methods.
+     *
+     * <p>Rendering and serializing are moved to this executor, while sends the platform only allows
+     * on its main thread are handed back to its scheduler. On Java 21 and above, an executor that starts
+     * a virtual thread per task is a good fit, and a {@link java.util.concurrent.ForkJoinPool} elsewhere.</p>
+     *
+     * <p>Platforms that cannot render off their main thread ignore the executor, and send
+     * messages from the asynchronous methods immediately.</p>
+     *
+     * @param renderExecutor an executor
+     * @return this builder
+     * @see AudienceProvider#sendMessageAsync(Audience, Component)
+     * @since 4.5.0
+     */
+    @SuppressWarnings("unchecked")
+    default @NotNull B renderExecutor(final @NotNull Executor renderExecutor) {
+      return (B) this;
+    }
+
     /**
      * Builds the provider.
      *
@@ -37,6 +37,10 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
+import static net.kyori.adventure.platform.bukkit.BukkitFacetIndex.between;
+import static net.kyori.adventure.platform.bukkit.BukkitFacetIndex.since;
+import static net.kyori.adventure.platform.bukkit.BukkitFacetIndex.until;
+
 @SuppressWarnings("Convert2MethodRef")
 final class BukkitAudience extends FacetAudience<CommandSender> {
   static final ThreadLocal<Plugin> PLUGIN = new ThreadLocal<>();
@@ -45,46 +49,50 @@ final class BukkitAudience extends FacetAudience<CommandSender> {
     () -> new ViaFacet.Chat<>(Player.class, VIA),
     //    () -> new SpigotFacet.ChatWithType(),
     //    () -> new SpigotFacet.Chat(),
-    () -> new CraftBukkitFacet.Chat1_19_3(),
+    since("1.19.3", () -> new CraftBukkitFacet.Chat1_19_3()),
     () -> new CraftBukkitFacet.Chat(),
     () -> new BukkitFacet.Chat());
   private static final Collection<Facet.ActionBar<Player, ?>> ACTION_BAR = Facet.of(
     () -> new ViaFacet.ActionBarTitle<>(Player.class, VIA),
     () -> new ViaFacet.ActionBar<>(Player.class, VIA),
     //    () -> new SpigotFacet.ActionBar(),
-    () -> new CraftBukkitFacet.ActionBar_1_17(),
-    () -> new CraftBukkitFacet.ActionBar(),
+    since("1.17", () -> new CraftBukkitFacet.ActionBar_1_17()),
+    between("1.11", "1.16.5", () -> new CraftBukkitFacet.ActionBar()),
     () -> new CraftBukkitFacet.ActionBarLegacy());
   private static final Collection<Facet.Title<Player, ?, ?, ?>> TITLE = Facet.of(
     () -> new ViaFacet.Title<>(Player.class, VIA),
     // () -> new PaperFacet.Title(),
-    () -> new CraftBukkitFacet.Title_1_17(),
-    () -> new CraftBukkitFacet.Title());
+    since("1.17", () -> new CraftBukkitFacet.Title_1_17()),
+    until("1.16.5", () -> new CraftBukkitFacet.Title()));
   private static final Collection<Facet.Sound<Player, Vector>> SOUND = Facet.of(
     () -> new BukkitFacet.SoundWithCategory(),
     () -> new BukkitFacet.Sound());
   private static final Collection<Facet.EntitySound<Player, Object>> ENTITY_SOUND = Facet.of(
-    () -> new CraftBukkitFacet.EntitySound_1_19_3(),
+    since("1.19.3", () -> new CraftBukkitFacet.EntitySound_1_19_3()),
     () -> new CraftBukkitFacet.EntitySound()
   );
   private static final Collection<Facet.Book<Player, ?, ?>> BOOK = Facet.of(
     //    () -> new SpigotFacet.Book(),
-    () -> new CraftBukkitFacet.Book_1_20_5(),
-    () -> new CraftBukkitFacet.BookPost1_13(),
-    () -> new CraftBukkitFacet.Book1_13(),
-    () -> new CraftBukkitFacet.BookPre1_13());
+    since("1.20.5", () -> new CraftBukkitFacet.Book_1_20_5()),
+    between("1.14", "1.20.4", () -> new CraftBukkitFacet.BookPost1_13()),
+    between("1.13", "1.13.2", () -> new CraftBukkitFacet.Book1_13()),
+    until("1.12.2", () -> new CraftBukkitFacet.BookPre1_13()));
   private static final Collection<Facet.BossBar.Builder<Player, ?>> BOSS_BAR = Facet.of(
     () -> new ViaFacet.BossBar.Builder<>(Player.class, VIA),
     () -> new ViaFacet.BossBar.Builder1_9_To_1_15<>(Player.class, VIA),
-    () -> new CraftBukkitFacet.BossBar.Builder(),
-    () -> new BukkitFacet.BossBarBuilder(),
-    () -> new CraftBukkitFacet.BossBarWither.Builder());
+    since("1.9", () -> new CraftBukkitFacet.BossBar.Builder()),
+    since("1.9", () -> new BukkitFacet.BossBarBuilder()),
+    until("1.8.8", () -> new CraftBukkitFacet.BossBarWither.Builder()));
   private static final Collection<Facet.TabList<Player, ?>> TAB_LIST = Facet.of(
     () -> new ViaFacet.TabList<>(Player.class, VIA),
     () -> new PaperFacet.TabList(),
     () -> new CraftBukkitFacet.TabList(),
     () -> new BukkitFacet.TabList()
   );
+  private static final Collection<Facet.Connection<Player>> CONNECTION = Facet.of(
+    () -> new CraftBukkitFacet.Connection(),
+    () -> new ViaFacet.Connection<>(Player.class, VIA)
+  );
   private static final Collection<Facet.Pointers<? extends CommandSender>> POINTERS = Facet.of(
     () -> new BukkitFacet.CommandSenderPointers(),
     () -> new BukkitFacet.ConsoleCommandSenderPointers(),
@@ -94,7 +102,7 @@ final class BukkitAudience extends FacetAudience<CommandSender> {
   private final @NotNull Plugin plugin;
 
   BukkitAudience(final @NotNull Plugin plugin, final FacetAudienceProvider<?, ?> provider, final @NotNull Collection<CommandSender> viewers) {
-    super(provider, viewers, CHAT, ACTION_BAR, TITLE, SOUND, ENTITY_SOUND, BOOK, BOSS_BAR, TAB_LIST, POINTERS);
+    super(provider, viewers, CHAT, ACTION_BAR, TITLE, SOUND, ENTITY_SOUND, BOOK, BOSS_BAR, TAB_LIST, CONNECTION, POINTERS);
     this.plugin = plugin;
   }
 
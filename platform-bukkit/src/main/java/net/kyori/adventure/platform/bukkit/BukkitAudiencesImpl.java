@@ -31,11 +31,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
 import net.kyori.adventure.platform.facet.Knob;
 import net.kyori.adventure.pointer.Pointered;
@@ -43,6 +47,7 @@ import net.kyori.adventure.text.flattener.ComponentFlattener;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.translation.GlobalTranslator;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
@@ -52,12 +57,18 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.PluginManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.needField;
@@ -71,6 +82,10 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     Knob.ERR = (message, error) -> Bukkit.getLogger().log(Level.WARNING, message, error);
   }
 
+  private static final String[] RELOAD_EVENTS = {
+    "org.bukkit.event.server.ServerLoadEvent", // 1.13.1+
+    "io.papermc.paper.event.server.ServerResourcesReloadedEvent" // data pack reloads, Paper 1.18.2+
+  };
   private static final Map<String, BukkitAudiences> INSTANCES = Collections.synchronizedMap(new HashMap<>(4));
 
   static Builder builder(final @NotNull Plugin plugin) {
@@ -82,9 +97,10 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
   }
 
   private final Plugin plugin;
+  private volatile @Nullable BukkitPlayerGrid grid; // lazy init
 
-  BukkitAudiencesImpl(final @NotNull Plugin plugin, final @NotNull ComponentRenderer<Pointered> componentRenderer) {
-    super(componentRenderer);
+  BukkitAudiencesImpl(final @NotNull Plugin plugin, final @NotNull ComponentRenderer<Pointered> componentRenderer, final @NotNull Function<Pointered, ?> partition, final @Nullable Executor renderExecutor) {
+    super(componentRenderer, partition, renderExecutor);
     this.plugin = requireNonNull(plugin, "plugin");
 
     final CommandSender console = this.plugin.getServer().getConsoleSender();
@@ -96,8 +112,25 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
 
     this.registerEvent(PlayerJoinEvent.class, EventPriority.LOWEST, event ->
       this.addViewer(event.getPlayer()));
-    this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event ->
-      this.removeViewer(event.getPlayer()));
+    this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event -> {
+      this.removeViewer(event.getPlayer());
+      CraftBukkitFacet.invalidateConnection(event.getPlayer());
+    });
+    this.registerEvent(PlayerRespawnEvent.class, EventPriority.MONITOR, event ->
+      CraftBukkitFacet.invalidateConnection(event.getPlayer()));
+    this.registerEvent(PlayerChangedWorldEvent.class, EventPriority.MONITOR, event ->
+      CraftBukkitFacet.invalidateConnection(event.getPlayer()));
+    this.registerEvent(WorldUnloadEvent.class, EventPriority.MONITOR, event ->
+      CraftBukkitFacet.BossBarWither.clearPool(event.getWorld()));
+    for (final String reloadEvent : RELOAD_EVENTS) {
+      final Class<?> eventClass = MinecraftReflection.findClass(reloadEvent);
+      if (eventClass != null && Event.class.isAssignableFrom(eventClass)) {
+        this.registerEvent((Class<? extends Event>) eventClass, EventPriority.MONITOR, event ->
+          CraftBukkitAccess.invalidateRegistryCaches());
+      }
+    }
+
+    MinecraftReflection.saveProbes(); // facets have been probed by the console audience
   }
 
   @Override
@@ -124,9 +157,27 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     return new BukkitAudience(this.plugin, this, viewers);
   }
 
+  @Override
+  protected @Nullable Executor tickExecutor() {
+    // a disabled plugin cannot schedule tasks, so ticking stops rather than running every tick at once
+    if (!this.plugin.isEnabled()) return null;
+    return task -> {
+      if (this.plugin.isEnabled()) {
+        this.plugin.getServer().getScheduler().runTask(this.plugin, task);
+      } else if (this.plugin.getServer().isPrimaryThread()) {
+        task.run();
+      } else {
+        // e.g. a message rendered asynchronously, which must not be sent from the render thread
+        throw new RejectedExecutionException("Plugin " + this.plugin.getName() + " was disabled");
+      }
+    };
+  }
+
   @Override
   public void close() {
     INSTANCES.remove(this.plugin.getName());
+    CraftBukkitFacet.clearConnections();
+    CraftBukkitFacet.BossBarWither.clearPool();
     super.close();
   }
 
@@ -135,9 +186,60 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     return BukkitComponentSerializer.FLATTENER;
   }
 
+  @Override
+  public @NotNull Audience nearby(final @NotNull Key world, final double x, final double y, final double z, final double radius) {
+    requireNonNull(world, "world");
+    final BukkitPlayerGrid grid = this.grid();
+    return Audience.audience(() -> {
+      final World found = this.findWorld(world);
+      if (found == null) return Collections.<Audience>emptyIterator();
+      return grid.nearby(found, x, y, z, radius).stream()
+        .map(player -> (Audience) this.viewers.get(player))
+        .filter(Objects::nonNull)
+        .iterator();
+    });
+  }
+
+  // world names are not always valid keys, so each name is compared to the key instead
+  private @Nullable World findWorld(final @NotNull Key key) {
+    for (final World world : this.plugin.getServer().getWorlds()) {
+      final String name = world.getName();
+      if (name.equals(key.asString()) || (key.namespace().equals(Key.MINECRAFT_NAMESPACE) && name.equals(key.value()))) {
+        return world;
+      }
+    }
+    return null;
+  }
+
+  // players are only indexed once nearby audiences are used
+  private @NotNull BukkitPlayerGrid grid() {
+    BukkitPlayerGrid grid = this.grid;
+    if (grid == null) {
+      synchronized (this) {
+        grid = this.grid;
+        if (grid == null) {
+          final BukkitPlayerGrid created = new BukkitPlayerGrid();
+          this.registerEvent(PlayerMoveEvent.class, EventPriority.MONITOR, event -> created.update(event.getPlayer(), event.getTo()));
+          this.registerEvent(PlayerTeleportEvent.class, EventPriority.MONITOR, event -> created.update(event.getPlayer(), event.getTo())); // teleports have their own handlers
+          this.registerEvent(PlayerJoinEvent.class, EventPriority.MONITOR, event -> created.update(event.getPlayer(), event.getPlayer().getLocation()));
+          this.registerEvent(PlayerRespawnEvent.class, EventPriority.MONITOR, event -> created.update(event.getPlayer(), event.getRespawnLocation()));
+          this.registerEvent(PlayerChangedWorldEvent.class, EventPriority.MONITOR, event -> created.update(event.getPlayer(), event.getPlayer().getLocation()));
+          this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event -> created.remove(event.getPlayer()));
+          for (final Player player : this.plugin.getServer().getOnlinePlayers()) {
+            created.update(player, player.getLocation());
+          }
+          this.grid = grid = created;
+        }
+      }
+    }
+    return grid;
+  }
+
   static final class Builder implements BukkitAudiences.Builder {
     private final @NotNull Plugin plugin;
     private ComponentRenderer<Pointered> componentRenderer;
+    private Function<Pointered, ?> partition = DEFAULT_PARTITION;
+    private @Nullable Executor renderExecutor;
 
     Builder(final @NotNull Plugin plugin) {
       this.plugin = requireNonNull(plugin, "plugin");
@@ -152,7 +254,13 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
 
     @Override
     public BukkitAudiences.@NotNull Builder partition(final @NotNull Function<Pointered, ?> partitionFunction) {
-      requireNonNull(partitionFunction, "partitionFunction"); // unused
+      this.partition = requireNonNull(partitionFunction, "partitionFunction");
+      return this;
+    }
+
+    @Override
+    public BukkitAudiences.@NotNull Builder renderExecutor(final @NotNull Executor renderExecutor) {
+      this.renderExecutor = requireNonNull(renderExecutor, "renderExecutor");
       return this;
     }
 
@@ -160,7 +268,7 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     public @NotNull BukkitAudiences build() {
       return INSTANCES.computeIfAbsent(this.plugin.getName(), name -> {
         this.softDepend("ViaVersion");
-        return new BukkitAudiencesImpl(this.plugin, this.componentRenderer);
+        return new BukkitAudiencesImpl(this.plugin, this.componentRenderer, this.partition, this.renderExecutor);
       });
     }
 
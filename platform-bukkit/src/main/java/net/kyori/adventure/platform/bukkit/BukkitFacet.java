@@ -28,7 +28,9 @@ import com.viaversion.viaversion.api.connection.UserConnection;
 import java.lang.invoke.MethodHandle;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.function.Function;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.key.Key;
@@ -58,6 +60,7 @@ import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findMethod;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.hasClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.hasMethod;
+import static net.kyori.adventure.platform.facet.Knob.getInt;
 import static net.kyori.adventure.platform.facet.Knob.logError;
 import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
 
@@ -102,6 +105,15 @@ class BukkitFacet<V extends CommandSender> extends FacetBase<V> {
     public @NotNull Vector createPosition(final double x, final double y, final double z) {
       return new Vector(x, y, z);
     }
+
+    @Override
+    public boolean isInRange(final @NotNull Player viewer, final double x, final double y, final double z, final double distance) {
+      final Location location = viewer.getLocation();
+      final double dx = location.getX() - x;
+      final double dy = location.getY() - y;
+      final double dz = location.getZ() - z;
+      return dx * dx + dy * dy + dz * dz <= distance * distance;
+    }
   }
 
   static class Sound extends Position implements Facet.Sound<Player, Vector> {
@@ -224,12 +236,21 @@ class BukkitFacet<V extends CommandSender> extends FacetBase<V> {
   }
 
   static class BossBar extends Message<Player> implements Facet.BossBar<Player> {
+    // closed bars, reset and ready to be reused
+    private static final int POOL_SIZE = getInt("boss-bar-pool-size", 16);
+    private static final Queue<org.bukkit.boss.BossBar> POOL = new ArrayBlockingQueue<>(Math.max(1, POOL_SIZE));
+
     protected final org.bukkit.boss.BossBar bar;
 
     protected BossBar(final @NotNull Collection<Player> viewers) {
       super(Player.class);
-      this.bar = Bukkit.createBossBar("", BarColor.PINK, BarStyle.SOLID);
-      this.bar.setVisible(false);
+      final org.bukkit.boss.BossBar pooled = POOL.poll();
+      if (pooled != null) {
+        this.bar = pooled;
+      } else {
+        this.bar = Bukkit.createBossBar("", BarColor.PINK, BarStyle.SOLID);
+        this.bar.setVisible(false);
+      }
       for (final Player viewer : viewers) {
         this.bar.addPlayer(viewer);
       }
@@ -351,6 +372,14 @@ class BukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public void close() {
       this.bar.removeAll();
+      if (POOL_SIZE > 0) {
+        // every other property is set again when the bar is initialized
+        this.bar.setVisible(false);
+        for (final BarFlag flag : BarFlag.values()) {
+          this.bar.removeFlag(flag);
+        }
+        POOL.offer(this.bar);
+      }
     }
   }
 
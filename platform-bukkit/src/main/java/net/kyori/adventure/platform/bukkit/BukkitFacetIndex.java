@@ -0,0 +1,77 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.util.function.Supplier;
+import net.kyori.adventure.platform.facet.Knob;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An index of the server versions that version-specific facets can apply to.
+ *
+ * <p>A facet supplier outside of its range is never invoked, so the facet class
+ * and its reflective holders are never loaded or initialized.</p>
+ */
+final class BukkitFacetIndex {
+  private static final int UNKNOWN = -1;
+  private static final boolean ENABLED = Knob.isEnabled("facet-index", true);
+  private static final int SERVER_VERSION = parse(Bukkit.getBukkitVersion());
+
+  private BukkitFacetIndex() {
+  }
+
+  static <F> @NotNull Supplier<F> since(final @NotNull String minVersion, final @NotNull Supplier<F> facet) {
+    return between(minVersion, null, facet);
+  }
+
+  static <F> @NotNull Supplier<F> until(final @NotNull String maxVersion, final @NotNull Supplier<F> facet) {
+    return between(null, maxVersion, facet);
+  }
+
+  static <F> @NotNull Supplier<F> between(final @Nullable String minVersion, final @Nullable String maxVersion, final @NotNull Supplier<F> facet) {
+    if (!ENABLED || SERVER_VERSION == UNKNOWN) return facet;
+    if ((minVersion != null && SERVER_VERSION < parse(minVersion))
+      || (maxVersion != null && SERVER_VERSION > parse(maxVersion))) {
+      return () -> null;
+    }
+    return facet;
+  }
+
+  // 1.20.4-R0.1-SNAPSHOT -> 12004
+  private static int parse(final @NotNull String version) {
+    final int end = version.indexOf('-');
+    final String[] parts = (end == -1 ? version : version.substring(0, end)).split("\\.");
+    if (parts.length < 2 || parts.length > 3) return UNKNOWN;
+    try {
+      final int major = Integer.parseInt(parts[0]);
+      final int minor = Integer.parseInt(parts[1]);
+      final int patch = parts.length == 3 ? Integer.parseInt(parts[2]) : 0;
+      return major * 10000 + minor * 100 + patch;
+    } catch (final NumberFormatException error) {
+      return UNKNOWN;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An index of online players by world and chunk.
+ *
+ * <p>Players are only moved between cells when they cross a chunk border,
+ * so finding the players near a position only checks the chunks around it.</p>
+ */
+final class BukkitPlayerGrid {
+  private final Map<UUID, Map<Long, Set<Player>>> worlds = new ConcurrentHashMap<>();
+  private final Map<Player, Cell> cells = new ConcurrentHashMap<>();
+
+  void update(final @NotNull Player player, final @NotNull Location location) {
+    final World world = location.getWorld();
+    if (world == null) return;
+    final int x = location.getBlockX() >> 4;
+    final int z = location.getBlockZ() >> 4;
+    final Cell current = this.cells.get(player);
+    if (current != null && current.world == world && current.x == x && current.z == z) return;
+
+    final Cell cell = new Cell(world, x, z);
+    if (current != null) {
+      this.remove(player, current);
+    }
+    this.cells.put(player, cell);
+    this.worlds.computeIfAbsent(cell.world.getUID(), key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(chunk(x, z), chunk -> ConcurrentHashMap.newKeySet())
+      .add(player);
+  }
+
+  void remove(final @NotNull Player player) {
+    final Cell current = this.cells.remove(player);
+    if (current != null) {
+      this.remove(player, current);
+    }
+  }
+
+  private void remove(final @NotNull Player player, final @NotNull Cell cell) {
+    final Map<Long, Set<Player>> chunks = this.worlds.get(cell.world.getUID());
+    if (chunks != null) {
+      chunks.computeIfPresent(chunk(cell.x, cell.z), (chunk, players) -> players.remove(player) && players.isEmpty() ? null : players);
+    }
+  }
+
+  /**
+   * Gets the players within a distance of a position.
+   *
+   * @param world the world
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @param radius the distance
+   * @return the players
+   */
+  @NotNull List<Player> nearby(final @NotNull World world, final double x, final double y, final double z, final double radius) {
+    final Map<Long, Set<Player>> chunks = this.worlds.get(world.getUID());
+    if (chunks == null || chunks.isEmpty()) return Collections.emptyList();
+
+    final List<Player> nearby = new ArrayList<>();
+    final double radiusSquared = radius * radius;
+    final int minX = floor(x - radius) >> 4;
+    final int maxX = floor(x + radius) >> 4;
+    final int minZ = floor(z - radius) >> 4;
+    final int maxZ = floor(z + radius) >> 4;
+    if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > chunks.size()) {
+      // fewer occupied chunks than chunks in range
+      for (final Set<Player> players : chunks.values()) {
+        collect(players, x, y, z, radiusSquared, nearby);
+      }
+    } else {
+      for (int cx = minX; cx <= maxX; cx++) {
+        for (int cz = minZ; cz <= maxZ; cz++) {
+          collect(chunks.get(chunk(cx, cz)), x, y, z, radiusSquared, nearby);
+        }
+      }
+    }
+    return nearby;
+  }
+
+  private static void collect(final @Nullable Set<Player> players, final double x, final double y, final double z, final double radiusSquared, final @NotNull List<Player> nearby) {
+    if (players == null) return;
+    for (final Player player : players) {
+      final Location location = player.getLocation();
+      final double dx = location.getX() - x;
+      final double dy = location.getY() - y;
+      final double dz = location.getZ() - z;
+      if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+        nearby.add(player);
+      }
+    }
+  }
+
+  private static int floor(final double value) {
+    return (int) Math.floor(value);
+  }
+
+  private static long chunk(final int x, final int z) {
+    return ((long) x << 32) | (z & 0xFFFFFFFFL);
+  }
+
+  private static final class Cell {
+    private final World world;
+    private final int x;
+    private final int z;
+
+    Cell(final @NotNull World world, final int x, final int z) {
+      this.world = world;
+      this.x = x;
+      this.z = z;
+    }
+  }
+}
@@ -28,8 +28,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import net.kyori.adventure.key.Key;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findClass;
@@ -98,6 +104,70 @@ final class CraftBukkitAccess {
   private CraftBukkitAccess() {
   }
 
+  /**
+   * Clears every registry cache, for when data packs or the server have been reloaded.
+   */
+  static void invalidateRegistryCaches() {
+    for (final RegistryCache<?, ?> cache : RegistryCache.CACHES) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * A cache of values resolved from a registry access.
+   *
+   * <p>Values are dropped when a different registry access is used, and on reload.</p>
+   *
+   * @param <K> the key type
+   * @param <V> the value type
+   */
+  static final class RegistryCache<K, V> {
+    private static final Set<RegistryCache<?, ?>> CACHES = new CopyOnWriteArraySet<>();
+    private volatile @NotNull Values<K, V> values = new Values<>(null);
+
+    RegistryCache() {
+      CACHES.add(this);
+    }
+
+    @NotNull V get(final @NotNull Object owner, final @NotNull K key, final @NotNull Resolver<K, V> resolver) throws Throwable {
+      Values<K, V> values = this.values;
+      if (values.owner != owner) {
+        synchronized (this) {
+          values = this.values;
+          if (values.owner != owner) {
+            this.values = values = new Values<>(owner);
+          }
+        }
+      }
+      // a value resolved against a replaced owner only ends up in that owner's values, which are no longer used
+      V value = values.values.get(key);
+      if (value == null) {
+        value = resolver.resolve(key);
+        values.values.put(key, value);
+      }
+      return value;
+    }
+
+    void clear() {
+      this.values = new Values<>(null);
+    }
+
+    @FunctionalInterface
+    interface Resolver<K, V> {
+      @NotNull V resolve(final @NotNull K key) throws Throwable;
+    }
+
+    // the values resolved from one owner
+    private static final class Values<K, V> {
+      private final @Nullable Object owner;
+      private final Map<K, V> values = new ConcurrentHashMap<>();
+
+      Values(final @Nullable Object owner) {
+        this.owner = owner;
+      }
+    }
+  }
+
   static final class Chat1_19_3 {
     static final @Nullable MethodHandle RESOURCE_KEY_CREATE = searchMethod(CLASS_RESOURCE_KEY, Modifier.PUBLIC | Modifier.STATIC, "create", CLASS_RESOURCE_KEY, CLASS_RESOURCE_KEY, CLASS_RESOURCE_LOCATION);
     static final @Nullable MethodHandle SERVER_PLAYER_GET_LEVEL = searchMethod(CraftBukkitFacet.CRAFT_PLAYER_GET_HANDLE.type().returnType(), Modifier.PUBLIC, "getLevel", CLASS_SERVER_LEVEL);
@@ -113,6 +183,8 @@ final class CraftBukkitAccess {
     static final @Nullable MethodHandle CHAT_TYPE_BOUND_CONSTRUCTOR;
 
     static final Object CHAT_TYPE_RESOURCE_KEY;
+    // network id or holder, per chat type key
+    static final RegistryCache<Key, Object> CHAT_TYPES = new RegistryCache<>();
 
     static {
       MethodHandle boundNetworkConstructor = null;
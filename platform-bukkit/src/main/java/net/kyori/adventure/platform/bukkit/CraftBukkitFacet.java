@@ -25,6 +25,7 @@ package net.kyori.adventure.platform.bukkit;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
@@ -34,6 +35,7 @@ import java.io.InputStream;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -41,20 +43,27 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.chat.ChatType;
 import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.BinaryTagIO;
 import net.kyori.adventure.nbt.BinaryTagTypes;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
@@ -75,7 +84,6 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Wither;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
@@ -91,14 +99,17 @@ import static java.lang.invoke.MethodHandles.insertArguments;
 import static java.lang.invoke.MethodType.methodType;
 import static net.kyori.adventure.platform.bukkit.BukkitComponentSerializer.gson;
 import static net.kyori.adventure.platform.bukkit.BukkitComponentSerializer.legacy;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findAccessor;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findConstructor;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findCraftClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findEnum;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findField;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findGetterOf;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findMcClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findMcClassName;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findMethod;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findMutator;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findNmsClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findNmsClassName;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findSetterOf;
@@ -107,6 +118,7 @@ import static net.kyori.adventure.platform.bukkit.MinecraftReflection.lookup;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.needClass;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.needField;
 import static net.kyori.adventure.platform.bukkit.MinecraftReflection.searchMethod;
+import static net.kyori.adventure.platform.facet.Knob.getInt;
 import static net.kyori.adventure.platform.facet.Knob.isEnabled;
 import static net.kyori.adventure.platform.facet.Knob.logError;
 
@@ -182,6 +194,47 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     PLAYER_CONNECTION_SEND_PACKET = playerConnectionSendPacket;
   }
 
+  // Direct calls for the per-packet chain, so it can be inlined like compiled code
+  private static final MinecraftReflection.@Nullable Accessor CRAFT_PLAYER_HANDLE = findAccessor(CRAFT_PLAYER_GET_HANDLE);
+  private static final MinecraftReflection.@Nullable Accessor ENTITY_PLAYER_CONNECTION = findAccessor(ENTITY_PLAYER_GET_CONNECTION);
+  private static final MinecraftReflection.@Nullable Mutator PLAYER_CONNECTION_SEND = findMutator(PLAYER_CONNECTION_SEND_PACKET);
+
+  // The connection outlives the player handle, which CraftBukkit replaces on respawn and world changes.
+  // Both sides are weak, since the connection refers back to the player, so a player that is still cached
+  // after quitting can be collected along with their connection.
+  private static final boolean CACHE_CONNECTIONS = isEnabled("connection-cache", true);
+  private static final Map<Player, WeakReference<Object>> CONNECTIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Forgets the cached connection of a player.
+   *
+   * <p>Should be called whenever the player's handle may have been replaced, and when they quit.</p>
+   *
+   * @param player a player
+   */
+  static void invalidateConnection(final @NotNull Player player) {
+    CONNECTIONS.remove(player);
+  }
+
+  /**
+   * Forgets all cached connections.
+   */
+  static void clearConnections() {
+    CONNECTIONS.clear();
+  }
+
+  private static @Nullable Object findConnection(final @NotNull Player player) throws Throwable {
+    final WeakReference<Object> cached = CACHE_CONNECTIONS ? CONNECTIONS.get(player) : null;
+    Object connection = cached == null ? null : cached.get();
+    if (connection == null) {
+      connection = ENTITY_PLAYER_CONNECTION.get(CRAFT_PLAYER_HANDLE.get(player));
+      if (CACHE_CONNECTIONS && connection != null && player.isOnline()) {
+        CONNECTIONS.put(player, new WeakReference<>(connection));
+      }
+    }
+    return connection;
+  }
+
   private static final boolean SUPPORTED = isEnabled("craftbukkit", true)
     && MinecraftComponentSerializer.isSupported()
     && CRAFT_PLAYER_GET_HANDLE != null && ENTITY_PLAYER_GET_CONNECTION != null && PLAYER_CONNECTION_SEND_PACKET != null;
@@ -196,7 +249,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       if (packet == null) return;
 
       try {
-        PLAYER_CONNECTION_SEND_PACKET.invoke(ENTITY_PLAYER_GET_CONNECTION.invoke(CRAFT_PLAYER_GET_HANDLE.invoke(player)), packet);
+        PLAYER_CONNECTION_SEND.set(findConnection(player), packet);
       } catch (final Throwable error) {
         logError(error, "Failed to invoke CraftBukkit sendPacket: %s", packet);
       }
@@ -319,19 +372,12 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
           final Object nameComponent = this.createMessage(viewer, bound.name());
           final Object targetComponent = bound.target() != null ? this.createMessage(viewer, bound.target()) : null;
           final Object registryAccess = CraftBukkitAccess.Chat1_19_3.ACTUAL_GET_REGISTRY_ACCESS.invoke(CraftBukkitAccess.Chat1_19_3.SERVER_PLAYER_GET_LEVEL.invoke(CRAFT_PLAYER_GET_HANDLE.invoke(viewer)));
-          final Object chatTypeRegistry = ((Optional<?>) CraftBukkitAccess.Chat1_19_3.REGISTRY_ACCESS_GET_REGISTRY_OPTIONAL.invoke(registryAccess, CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_RESOURCE_KEY)).orElseThrow(NoSuchElementException::new);
-          final Object typeResourceLocation = CraftBukkitAccess.NEW_RESOURCE_LOCATION.invoke(bound.type().key().namespace(), bound.type().key().value());
+          final Object chatType = CraftBukkitAccess.Chat1_19_3.CHAT_TYPES.get(registryAccess, bound.type().key(), key -> resolveChatType(registryAccess, key));
           final Object boundNetwork;
           if (CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_BOUND_NETWORK_CONSTRUCTOR != null) {
-            final Object chatTypeObject = ((Optional<?>) CraftBukkitAccess.Chat1_19_3.REGISTRY_GET_OPTIONAL.invoke(chatTypeRegistry, typeResourceLocation)).orElseThrow(NoSuchElementException::new);
-            final int networkId = (int) CraftBukkitAccess.Chat1_19_3.REGISTRY_GET_ID.invoke(chatTypeRegistry, chatTypeObject);
-            if (networkId < 0) {
-              throw new IllegalArgumentException("Could not get a valid network id from " + type);
-            }
-            boundNetwork = CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_BOUND_NETWORK_CONSTRUCTOR.invoke(networkId, nameComponent, targetComponent);
+            boundNetwork = CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_BOUND_NETWORK_CONSTRUCTOR.invoke((int) (Integer) chatType, nameComponent, targetComponent);
           } else {
-            final Object chatTypeHolder = ((Optional<?>) CraftBukkitAccess.Chat1_19_3.REGISTRY_GET_HOLDER.invoke(chatTypeRegistry, typeResourceLocation)).orElseThrow(NoSuchElementException::new);
-            boundNetwork = CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_BOUND_CONSTRUCTOR.invoke(chatTypeHolder, nameComponent, Optional.ofNullable(targetComponent));
+            boundNetwork = CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_BOUND_CONSTRUCTOR.invoke(chatType, nameComponent, Optional.ofNullable(targetComponent));
           }
 
           this.sendMessage(viewer, CraftBukkitAccess.Chat1_19_3.DISGUISED_CHAT_PACKET_CONSTRUCTOR.invoke(message, boundNetwork));
@@ -340,6 +386,22 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         }
       }
     }
+
+    // resolves the network id of a chat type, or its holder on versions that send those
+    private static @NotNull Object resolveChatType(final @NotNull Object registryAccess, final @NotNull Key key) throws Throwable {
+      final Object chatTypeRegistry = ((Optional<?>) CraftBukkitAccess.Chat1_19_3.REGISTRY_ACCESS_GET_REGISTRY_OPTIONAL.invoke(registryAccess, CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_RESOURCE_KEY)).orElseThrow(NoSuchElementException::new);
+      final Object typeResourceLocation = CraftBukkitAccess.NEW_RESOURCE_LOCATION.invoke(key.namespace(), key.value());
+      if (CraftBukkitAccess.Chat1_19_3.CHAT_TYPE_BOUND_NETWORK_CONSTRUCTOR != null) {
+        final Object chatTypeObject = ((Optional<?>) CraftBukkitAccess.Chat1_19_3.REGISTRY_GET_OPTIONAL.invoke(chatTypeRegistry, typeResourceLocation)).orElseThrow(NoSuchElementException::new);
+        final int networkId = (int) CraftBukkitAccess.Chat1_19_3.REGISTRY_GET_ID.invoke(chatTypeRegistry, chatTypeObject);
+        if (networkId < 0) {
+          throw new IllegalArgumentException("Could not get a valid network id from " + key);
+        }
+        return networkId;
+      } else {
+        return ((Optional<?>) CraftBukkitAccess.Chat1_19_3.REGISTRY_GET_HOLDER.invoke(chatTypeRegistry, typeResourceLocation)).orElseThrow(NoSuchElementException::new);
+      }
+    }
   }
 
   static class Chat extends PacketFacet<CommandSender> implements Facet.Chat<CommandSender, Object> {
@@ -476,6 +538,8 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
   }
 
   static class EntitySound_1_19_3 extends PacketFacet<Player> implements PartialEntitySound {
+    // sound event holders, including variable range events for sounds not in the registry
+    private static final CraftBukkitAccess.RegistryCache<Key, Object> SOUND_EVENT_HOLDERS = new CraftBukkitAccess.RegistryCache<>();
 
     @Override
     public boolean isSupported() {
@@ -485,15 +549,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public Object createForEntity(final net.kyori.adventure.sound.Sound sound, final Entity entity) {
       try {
-        final Object resLoc = CraftBukkitAccess.NEW_RESOURCE_LOCATION.invoke(sound.name().namespace(), sound.name().value());
-        final Optional<?> possibleSoundEvent = (Optional<?>) CraftBukkitAccess.EntitySound_1_19_3.REGISTRY_GET_OPTIONAL.invoke(CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_REGISTRY, resLoc);
-        final Object soundEvent;
-        if (possibleSoundEvent.isPresent()) {
-          soundEvent = possibleSoundEvent.get();
-        } else {
-          soundEvent = CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_CREATE_VARIABLE_RANGE.invoke(resLoc);
-        }
-        final Object soundEventHolder = CraftBukkitAccess.EntitySound_1_19_3.REGISTRY_WRAP_AS_HOLDER.invoke(CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_REGISTRY, soundEvent);
+        final Object soundEventHolder = SOUND_EVENT_HOLDERS.get(CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_REGISTRY, sound.name(), EntitySound_1_19_3::resolveSoundEvent);
         final long seed = sound.seed().orElseGet(() -> ThreadLocalRandom.current().nextLong());
         return CraftBukkitAccess.EntitySound_1_19_3.NEW_CLIENTBOUND_ENTITY_SOUND.invoke(soundEventHolder, this.toVanilla(sound.source()), this.toNativeEntity(entity), sound.volume(), sound.pitch(), seed);
       } catch (final Throwable error) {
@@ -506,6 +562,18 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     public void playSound(final @NotNull Player viewer, final Object packet) {
       this.sendPacket(viewer, packet);
     }
+
+    private static @NotNull Object resolveSoundEvent(final @NotNull Key name) throws Throwable {
+      final Object resLoc = CraftBukkitAccess.NEW_RESOURCE_LOCATION.invoke(name.namespace(), name.value());
+      final Optional<?> possibleSoundEvent = (Optional<?>) CraftBukkitAccess.EntitySound_1_19_3.REGISTRY_GET_OPTIONAL.invoke(CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_REGISTRY, resLoc);
+      final Object soundEvent;
+      if (possibleSoundEvent.isPresent()) {
+        soundEvent = possibleSoundEvent.get();
+      } else {
+        soundEvent = CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_CREATE_VARIABLE_RANGE.invoke(resLoc);
+      }
+      return CraftBukkitAccess.EntitySound_1_19_3.REGISTRY_WRAP_AS_HOLDER.invoke(CraftBukkitAccess.EntitySound_1_19_3.SOUND_EVENT_REGISTRY, soundEvent);
+    }
   }
 
   static class EntitySound extends PacketFacet<Player> implements PartialEntitySound {
@@ -526,6 +594,8 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     private static final MethodHandle NEW_RESOURCE_LOCATION = findConstructor(CraftBukkitAccess.CLASS_RESOURCE_LOCATION, String.class, String.class);
     private static final MethodHandle REGISTRY_GET_OPTIONAL = searchMethod(CraftBukkitAccess.CLASS_REGISTRY, Modifier.PUBLIC, "getOptional", Optional.class, CraftBukkitAccess.CLASS_RESOURCE_LOCATION);
     private static final Object REGISTRY_SOUND_EVENT;
+    // registered sound events, or the resource location of sounds not in the registry
+    private static final CraftBukkitAccess.RegistryCache<Key, Object> SOUND_EVENTS = new CraftBukkitAccess.RegistryCache<>();
 
     static {
       {
@@ -599,14 +669,17 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
         final Object soundCategory = this.toVanilla(sound.source());
         if (soundCategory == null) return null;
-        final Object nameRl = NEW_RESOURCE_LOCATION.invoke(sound.name().namespace(), sound.name().value());
-        final java.util.Optional<?> event = (Optional<?>) REGISTRY_GET_OPTIONAL.invoke(REGISTRY_SOUND_EVENT, nameRl);
+        final Object event = SOUND_EVENTS.get(REGISTRY_SOUND_EVENT, sound.name(), name -> {
+          final Object nameRl = NEW_RESOURCE_LOCATION.invoke(name.namespace(), name.value());
+          final Optional<?> registered = (Optional<?>) REGISTRY_GET_OPTIONAL.invoke(REGISTRY_SOUND_EVENT, nameRl);
+          return registered.isPresent() ? registered.get() : nameRl;
+        });
         final long seed = sound.seed().orElseGet(() -> ThreadLocalRandom.current().nextLong());
-        if (event.isPresent()) {
-          return NEW_CLIENTBOUND_ENTITY_SOUND.invoke(event.get(), soundCategory, nmsEntity, sound.volume(), sound.pitch(), seed);
+        if (CraftBukkitAccess.EntitySound.CLASS_SOUND_EVENT.isInstance(event)) {
+          return NEW_CLIENTBOUND_ENTITY_SOUND.invoke(event, soundCategory, nmsEntity, sound.volume(), sound.pitch(), seed);
         } else if (NEW_CLIENTBOUND_CUSTOM_SOUND != null && NEW_VEC3 != null) {
           final Location loc = entity.getLocation();
-          return NEW_CLIENTBOUND_CUSTOM_SOUND.invoke(nameRl, soundCategory, NEW_VEC3.invoke(loc.getX(), loc.getY(), loc.getZ()), sound.volume(), sound.pitch(), seed);
+          return NEW_CLIENTBOUND_CUSTOM_SOUND.invoke(event, soundCategory, NEW_VEC3.invoke(loc.getX(), loc.getY(), loc.getZ()), sound.volume(), sound.pitch(), seed);
         }
       } catch (final Throwable error) {
         logError(error, "Failed to send sound tracking an entity");
@@ -631,6 +704,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     private static final MethodHandle CONSTRUCTOR_SET_SUBTITLE = findConstructor(PACKET_SET_SUBTITLE, CLASS_CHAT_COMPONENT);
     private static final MethodHandle CONSTRUCTOR_SET_TITLE_ANIMATION = findConstructor(PACKET_SET_TITLE_ANIMATION, int.class, int.class, int.class);
     private static final MethodHandle CONSTRUCTOR_CLEAR_TITLES = findConstructor(PACKET_CLEAR_TITLES, boolean.class);
+    // Added MC 1.19.4, sends several packets to be handled in the same client tick.
+    // Only used along with title coalescing, so titles are otherwise sent as they always were
+    private static final boolean BUNDLE_TITLES = isEnabled("title-coalesce", false);
+    private static final Class<?> PACKET_BUNDLE = findMcClass("network.protocol.game.ClientboundBundlePacket");
+    private static final MethodHandle CONSTRUCTOR_BUNDLE = findConstructor(PACKET_BUNDLE, Iterable.class);
 
     @Override
     public boolean isSupported() {
@@ -671,6 +749,13 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public @Nullable List<?> completeTitle(final @NotNull List<Object> coll) {
+      if (BUNDLE_TITLES && coll.size() > 1 && CONSTRUCTOR_BUNDLE != null) {
+        try {
+          return Collections.singletonList(CONSTRUCTOR_BUNDLE.invoke((Iterable<?>) coll));
+        } catch (final Throwable error) {
+          logError(error, "Failed to invoke bundle packet constructor");
+        }
+      }
       return coll;
     }
 
@@ -834,7 +919,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public boolean isSupported() {
       return super.isSupported()
-        && NBT_IO_DESERIALIZE != null && MC_ITEMSTACK_SET_TAG != null && CRAFT_ITEMSTACK_CRAFT_MIRROR != null && CRAFT_ITEMSTACK_NMS_COPY != null
+        && (MinecraftNbt.isSupported() || NBT_IO_DESERIALIZE != null) && MC_ITEMSTACK_SET_TAG != null && CRAFT_ITEMSTACK_CRAFT_MIRROR != null && CRAFT_ITEMSTACK_NMS_COPY != null
         && BOOK_STACK != null;
     }
 
@@ -883,11 +968,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         .build();
     }
 
-    private static final Class<?> CLASS_NBT_TAG_COMPOUND = findClass(
-      findNmsClassName("NBTTagCompound"),
-      findMcClassName("nbt.CompoundTag"),
-      findMcClassName("nbt.NBTTagCompound")
-    );
+    private static final Class<?> CLASS_NBT_TAG_COMPOUND = MinecraftNbt.CLASS_NBT_TAG_COMPOUND;
     private static final Class<?> CLASS_NBT_IO = findClass(
       findNmsClassName("NBTCompressedStreamTools"),
       findMcClassName("nbt.NbtIo"),
@@ -926,6 +1007,15 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
 
     private @NotNull Object createTag(final @NotNull CompoundBinaryTag tag) throws IOException {
+      if (MinecraftNbt.isSupported()) {
+        try {
+          return MinecraftNbt.toMinecraft(tag);
+        } catch (final Throwable error) {
+          if (NBT_IO_DESERIALIZE == null) throw new IOException(error);
+          // fall back to a full encode and decode
+        }
+      }
+
       final TrustedByteArrayOutputStream output = new TrustedByteArrayOutputStream();
       BinaryTagIO.writer().write(tag, output);
 
@@ -1170,7 +1260,17 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
-  static class FakeEntity<E extends Entity> extends PacketFacet<Player> implements Facet.FakeEntity<Player, Location>, Listener {
+  static class FakeEntity<E extends Entity> extends PacketFacet<Player> implements Facet.FakeEntity<Player, Location> {
+    // fake entities by viewer, so a move only reaches the entities the player is viewing
+    private static final Map<Player, Set<CraftBukkitFacet.FakeEntity<?>>> ENTITIES_BY_VIEWER = new ConcurrentHashMap<>();
+    // the single move listener of each plugin that has fake entities
+    private static final Map<Plugin, MoveListener> MOVE_LISTENERS = new HashMap<>();
+    // how far a viewer moves or turns before their fake entities follow, and how often they may follow
+    private static final double MOVE_THRESHOLD = getInt("fake-entity-move-threshold", 25) / 100d; // in hundredths of a block
+    private static final float TURN_THRESHOLD = getInt("fake-entity-turn-threshold", 5); // in degrees
+    private static final long TELEPORT_INTERVAL = Math.max(1, getInt("fake-entity-teleport-interval", 1)); // in ticks
+    private static final long TICK_NANOS = 50_000_000L;
+
     private static final Class<? extends World> CLASS_CRAFT_WORLD = findCraftClass("CraftWorld", World.class);
     private static final Class<?> CLASS_NMS_LIVING_ENTITY = findNmsClass("EntityLiving");
     private static final Class<?> CLASS_DATA_WATCHER = findNmsClass("DataWatcher");
@@ -1200,20 +1300,34 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     private static final boolean SUPPORTED = (CRAFT_WORLD_CREATE_ENTITY != null || (NEW_ENTITY_WITHER != null && CRAFT_WORLD_GET_HANDLE != null))
       && CRAFT_ENTITY_GET_HANDLE != null && NMS_ENTITY_GET_BUKKIT_ENTITY != null && NMS_ENTITY_GET_DATA_WATCHER != null;
 
+    private final Plugin plugin;
     private final E entity;
     private final Object entityHandle;
     protected final Set<Player> viewers;
+    private final Map<Player, Tracked> tracked;
 
     protected FakeEntity(final @NotNull Class<E> entityClass, final @NotNull Location location) {
       this(BukkitAudience.PLUGIN.get(), entityClass, location);
     }
 
-    @SuppressWarnings("unchecked")
     protected FakeEntity(final @NotNull Plugin plugin, final @NotNull Class<E> entityClass, final @NotNull Location location) {
-      E entity = null;
+      this(plugin, entityClass, location, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected FakeEntity(final @NotNull Plugin plugin, final @NotNull Class<E> entityClass, final @NotNull Location location, final @Nullable E pooled) {
+      E entity = pooled;
       Object handle = null;
 
-      if (SUPPORTED) {
+      if (SUPPORTED && entity != null) {
+        try {
+          handle = CRAFT_ENTITY_GET_HANDLE.invoke(entity);
+        } catch (final Throwable error) {
+          logError(error, "Failed to reuse fake entity: %s", entity);
+          entity = null;
+        }
+      }
+      if (SUPPORTED && entity == null) {
         try {
           if (CRAFT_WORLD_CREATE_ENTITY != null) {
             final Object nmsEntity = CRAFT_WORLD_CREATE_ENTITY.invoke(location.getWorld(), location, entityClass);
@@ -1230,12 +1344,16 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         }
       }
 
+      this.plugin = plugin;
       this.entity = entity;
       this.entityHandle = handle;
       this.viewers = new HashSet<>();
+      this.tracked = new ConcurrentHashMap<>();
 
       if (this.isSupported()) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        synchronized (MOVE_LISTENERS) {
+          MOVE_LISTENERS.computeIfAbsent(plugin, MoveListener::new).entities++;
+        }
       }
     }
 
@@ -1244,11 +1362,38 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       return super.isSupported() && this.entity != null && this.entityHandle != null;
     }
 
-    @EventHandler(ignoreCancelled = false, priority = EventPriority.MONITOR)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-      final Player viewer = event.getPlayer();
-      if (this.viewers.contains(viewer)) {
-        this.teleport(viewer, this.createPosition(viewer));
+    protected @Nullable E entity() {
+      return this.entity;
+    }
+
+    private static void onPlayerMove(final @NotNull Plugin plugin, final @NotNull Player viewer, final @NotNull Location to) {
+      final Set<CraftBukkitFacet.FakeEntity<?>> entities = ENTITIES_BY_VIEWER.get(viewer);
+      if (entities == null) return;
+      for (final CraftBukkitFacet.FakeEntity<?> entity : entities) {
+        if (entity.plugin == plugin) {
+          entity.follow(viewer, to);
+        }
+      }
+    }
+
+    // the viewer is still at their old location while the move event is handled, so the destination is passed in
+    private void follow(final @NotNull Player viewer, final @NotNull Location to) {
+      final Tracked tracked = this.tracked.get(viewer);
+      if (tracked == null || tracked.pending || !tracked.moved(to)) return;
+
+      final long wait = tracked.sentAt + TELEPORT_INTERVAL * TICK_NANOS - System.nanoTime();
+      if (wait <= 0) {
+        this.teleport(viewer, to, this.createPosition(to.clone()));
+      } else if (this.plugin.isEnabled()) {
+        // send the latest position once the viewer may be sent another teleport, as it is by then
+        tracked.pending = true;
+        this.plugin.getServer().getScheduler().runTaskLater(this.plugin, () -> {
+          tracked.pending = false;
+          if (this.tracked.get(viewer) == tracked) {
+            final Location location = viewer.getLocation();
+            this.teleport(viewer, location, this.createPosition(location.clone()));
+          }
+        }, (wait + TICK_NANOS - 1) / TICK_NANOS);
       }
     }
 
@@ -1302,7 +1447,17 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @NotNull
     @Override
     public Location createPosition(final @NotNull Player viewer) {
-      return viewer.getLocation();
+      return this.createPosition(viewer.getLocation());
+    }
+
+    /**
+     * Creates the position of this entity for a viewer at a location.
+     *
+     * @param location the viewer's location, which may be modified
+     * @return a position
+     */
+    protected @NotNull Location createPosition(final @NotNull Location location) {
+      return location;
     }
 
     @NotNull
@@ -1313,8 +1468,14 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void teleport(final @NotNull Player viewer, final @Nullable Location position) {
+      this.teleport(viewer, viewer.getLocation(), position);
+    }
+
+    private void teleport(final @NotNull Player viewer, final @NotNull Location location, final @Nullable Location position) {
       if (position == null) {
         this.viewers.remove(viewer);
+        this.tracked.remove(viewer);
+        ENTITIES_BY_VIEWER.computeIfPresent(viewer, (player, entities) -> entities.remove(this) && entities.isEmpty() ? null : entities);
         this.sendPacket(viewer, this.createDespawnPacket());
         return;
       }
@@ -1322,7 +1483,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       if (!this.viewers.contains(viewer)) {
         this.sendPacket(viewer, this.createSpawnPacket());
         this.viewers.add(viewer);
+        ENTITIES_BY_VIEWER.computeIfAbsent(viewer, player -> ConcurrentHashMap.newKeySet()).add(this);
       }
+      final Tracked tracked = this.tracked.computeIfAbsent(viewer, player -> new Tracked());
+      tracked.location = location;
+      tracked.sentAt = System.nanoTime();
 
       try {
         NMS_ENTITY_SET_LOCATION.invoke(this.entityHandle, position.getX(), position.getY(), position.getZ(), position.getPitch(), position.getYaw());
@@ -1375,11 +1540,43 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void close() {
-      HandlerList.unregisterAll(this);
+      if (this.isSupported()) {
+        synchronized (MOVE_LISTENERS) {
+          final MoveListener listener = MOVE_LISTENERS.get(this.plugin);
+          if (listener != null && --listener.entities <= 0) {
+            MOVE_LISTENERS.remove(this.plugin);
+            HandlerList.unregisterAll(listener);
+          }
+        }
+      }
       for (final Player viewer : new LinkedList<>(this.viewers)) {
         this.teleport(viewer, null);
       }
     }
+
+    // where a viewer was when their position was last sent
+    private static final class Tracked {
+      private volatile @Nullable Location location;
+      private volatile long sentAt;
+      private volatile boolean pending;
+
+      boolean moved(final @NotNull Location current) {
+        final Location last = this.location;
+        if (last == null || last.getWorld() != current.getWorld()) return true;
+        return last.distanceSquared(current) >= MOVE_THRESHOLD * MOVE_THRESHOLD
+          || Math.abs(last.getPitch() - current.getPitch()) >= TURN_THRESHOLD
+          || Math.abs(((last.getYaw() - current.getYaw()) % 360 + 540) % 360 - 180) >= TURN_THRESHOLD;
+      }
+    }
+
+    private static final class MoveListener implements Listener {
+      private int entities;
+
+      MoveListener(final @NotNull Plugin plugin) {
+        plugin.getServer().getPluginManager().registerEvent(PlayerMoveEvent.class, this, EventPriority.MONITOR, (listener, event) ->
+          onPlayerMove(plugin, ((PlayerMoveEvent) event).getPlayer(), ((PlayerMoveEvent) event).getTo()), plugin, true);
+      }
+    }
   }
 
   static final class BossBarWither extends FakeEntity<Wither> implements Facet.BossBarEntity<Player, Location> {
@@ -1395,14 +1592,43 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       }
     }
 
+    // closed withers of each world, ready to be reused
+    private static final int POOL_SIZE = getInt("boss-bar-pool-size", 16);
+    private static final Map<UUID, Queue<Wither>> POOL = new ConcurrentHashMap<>();
+
+    /**
+     * Forgets the pooled withers of a world, once it is unloaded.
+     *
+     * @param world a world
+     */
+    static void clearPool(final @NotNull World world) {
+      POOL.remove(world.getUID());
+    }
+
+    /**
+     * Forgets all pooled withers.
+     */
+    static void clearPool() {
+      POOL.clear();
+    }
+
     private volatile boolean initialized = false;
 
     private BossBarWither(final @NotNull Collection<Player> viewers) {
-      super(Wither.class, viewers.iterator().next().getWorld().getSpawnLocation());
+      this(viewers.iterator().next().getWorld().getSpawnLocation());
+    }
+
+    private BossBarWither(final @NotNull Location location) {
+      super(BukkitAudience.PLUGIN.get(), Wither.class, location, pooled(location.getWorld()));
       this.invisible(true);
       this.metadata(INVULNERABLE_KEY, INVULNERABLE_TICKS);
     }
 
+    private static @Nullable Wither pooled(final @NotNull World world) {
+      final Queue<Wither> pool = POOL.get(world.getUID());
+      return pool == null ? null : pool.poll();
+    }
+
     @Override
     public void bossBarInitialized(final net.kyori.adventure.bossbar.@NotNull BossBar bar) {
       Facet.BossBarEntity.super.bossBarInitialized(bar);
@@ -1410,8 +1636,8 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
 
     @Override
-    public @NotNull Location createPosition(final @NotNull Player viewer) {
-      final Location position = super.createPosition(viewer);
+    protected @NotNull Location createPosition(final @NotNull Location location) {
+      final Location position = super.createPosition(location);
       position.setPitch(position.getPitch() - OFFSET_PITCH);
       position.setYaw(position.getYaw() + OFFSET_YAW);
       position.add(position.getDirection().multiply(OFFSET_MAGNITUDE));
@@ -1422,6 +1648,16 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     public boolean isEmpty() {
       return !this.initialized || this.viewers.isEmpty();
     }
+
+    @Override
+    public void close() {
+      super.close();
+      final Wither entity = this.entity();
+      if (POOL_SIZE > 0 && this.isSupported() && entity != null) {
+        // name, health and metadata are set again when the entity is reused
+        POOL.computeIfAbsent(entity.getWorld().getUID(), world -> new ArrayBlockingQueue<>(POOL_SIZE)).offer(entity);
+      }
+    }
   }
 
   static class TabList extends PacketFacet<Player> implements Facet.TabList<Player, Object> {
@@ -1433,8 +1669,12 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     private static final @Nullable MethodHandle CLIENTBOUND_TAB_LIST_PACKET_CTOR_PRE_1_17 = findConstructor(CLIENTBOUND_TAB_LIST_PACKET);
     protected static final @Nullable MethodHandle CLIENTBOUND_TAB_LIST_PACKET_CTOR = findConstructor(CLIENTBOUND_TAB_LIST_PACKET, CLASS_CHAT_COMPONENT, CLASS_CHAT_COMPONENT);
     // Fields added by spigot -- names stable
-    private static final @Nullable Field CRAFT_PLAYER_TAB_LIST_HEADER = findField(CLASS_CRAFT_PLAYER, "playerListHeader");
-    private static final @Nullable Field CRAFT_PLAYER_TAB_LIST_FOOTER = findField(CLASS_CRAFT_PLAYER, "playerListFooter");
+    private static final @Nullable Field CRAFT_PLAYER_TAB_LIST_HEADER_FIELD = findField(CLASS_CRAFT_PLAYER, "playerListHeader");
+    private static final @Nullable Field CRAFT_PLAYER_TAB_LIST_FOOTER_FIELD = findField(CLASS_CRAFT_PLAYER, "playerListFooter");
+    private static final MinecraftReflection.@Nullable Accessor CRAFT_PLAYER_GET_TAB_LIST_HEADER = findAccessor(findGetterOf(CRAFT_PLAYER_TAB_LIST_HEADER_FIELD));
+    private static final MinecraftReflection.@Nullable Mutator CRAFT_PLAYER_SET_TAB_LIST_HEADER = findMutator(findSetterOf(CRAFT_PLAYER_TAB_LIST_HEADER_FIELD));
+    private static final MinecraftReflection.@Nullable Accessor CRAFT_PLAYER_GET_TAB_LIST_FOOTER = findAccessor(findGetterOf(CRAFT_PLAYER_TAB_LIST_FOOTER_FIELD));
+    private static final MinecraftReflection.@Nullable Mutator CRAFT_PLAYER_SET_TAB_LIST_FOOTER = findMutator(findSetterOf(CRAFT_PLAYER_TAB_LIST_FOOTER_FIELD));
 
     protected static final @Nullable MethodHandle CLIENTBOUND_TAB_LIST_PACKET_SET_HEADER = first(
       findSetterOf(findField(CLIENTBOUND_TAB_LIST_PACKET, PaperFacet.NATIVE_COMPONENT_CLASS, "adventure$header")),
@@ -1470,17 +1710,18 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public void send(final Player viewer, @Nullable Object header, @Nullable Object footer) {
       try {
-        if (CRAFT_PLAYER_TAB_LIST_HEADER != null && CRAFT_PLAYER_TAB_LIST_FOOTER != null) {
+        if (CRAFT_PLAYER_GET_TAB_LIST_HEADER != null && CRAFT_PLAYER_SET_TAB_LIST_HEADER != null
+          && CRAFT_PLAYER_GET_TAB_LIST_FOOTER != null && CRAFT_PLAYER_SET_TAB_LIST_FOOTER != null) {
           if (header == null) {
-            header = CRAFT_PLAYER_TAB_LIST_HEADER.get(viewer);
+            header = CRAFT_PLAYER_GET_TAB_LIST_HEADER.get(viewer);
           } else {
-            CRAFT_PLAYER_TAB_LIST_HEADER.set(viewer, header);
+            CRAFT_PLAYER_SET_TAB_LIST_HEADER.set(viewer, header);
           }
 
           if (footer == null) {
-            footer = CRAFT_PLAYER_TAB_LIST_FOOTER.get(viewer);
+            footer = CRAFT_PLAYER_GET_TAB_LIST_FOOTER.get(viewer);
           } else {
-            CRAFT_PLAYER_TAB_LIST_FOOTER.set(viewer, footer);
+            CRAFT_PLAYER_SET_TAB_LIST_FOOTER.set(viewer, footer);
           }
         }
 
@@ -1500,6 +1741,72 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
+  static final class Connection extends CraftBukkitFacet<Player> implements Facet.Connection<Player> {
+    private static final @Nullable Class<?> CLASS_NETWORK_MANAGER = findClass(
+      findNmsClassName("NetworkManager"),
+      findMcClassName("network.NetworkManager"),
+      findMcClassName("network.Connection")
+    );
+    private static final @Nullable MethodHandle PLAYER_CONNECTION_GET_NETWORK_MANAGER = ENTITY_PLAYER_GET_CONNECTION == null
+      ? null
+      : findGetterByType(ENTITY_PLAYER_GET_CONNECTION.type().returnType(), CLASS_NETWORK_MANAGER);
+    private static final @Nullable MethodHandle NETWORK_MANAGER_GET_CHANNEL = findGetterByType(CLASS_NETWORK_MANAGER, Channel.class);
+
+    // Fields are found by type, since they are obfuscated on some versions and moved to a superclass on others
+    private static @Nullable MethodHandle findGetterByType(final @Nullable Class<?> holderClass, final @Nullable Class<?> fieldClass) {
+      if (fieldClass == null) return null;
+      for (Class<?> clazz = holderClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+        for (final Field field : clazz.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && fieldClass.isAssignableFrom(field.getType())) {
+            try {
+              field.setAccessible(true);
+              return lookup().unreflectGetter(field);
+            } catch (final Throwable error) {
+              logError(error, "Failed to find %s field of %s", fieldClass, clazz);
+              return null;
+            }
+          }
+        }
+      }
+      return null;
+    }
+
+    Connection() {
+      super(CLASS_CRAFT_PLAYER);
+    }
+
+    @Override
+    public boolean isSupported() {
+      return super.isSupported() && PLAYER_CONNECTION_GET_NETWORK_MANAGER != null && NETWORK_MANAGER_GET_CHANNEL != null;
+    }
+
+    private static @Nullable Channel findChannel(final @NotNull Player viewer) throws Throwable {
+      return (Channel) NETWORK_MANAGER_GET_CHANNEL.invoke(PLAYER_CONNECTION_GET_NETWORK_MANAGER.invoke(findConnection(viewer)));
+    }
+
+    @Override
+    public boolean isWritable(final @NotNull Player viewer) {
+      try {
+        final Channel channel = findChannel(viewer);
+        return channel == null || channel.isWritable();
+      } catch (final Throwable error) {
+        logError(error, "Failed to check CraftBukkit connection: %s", viewer);
+        return true;
+      }
+    }
+
+    @Override
+    public @Nullable Executor eventLoop(final @NotNull Player viewer) {
+      try {
+        final Channel channel = findChannel(viewer);
+        return channel == null ? null : channel.eventLoop();
+      } catch (final Throwable error) {
+        logError(error, "Failed to find CraftBukkit event loop: %s", viewer);
+        return null;
+      }
+    }
+  }
+
   static final class Translator extends FacetBase<Server> implements FacetComponentFlattener.Translator<Server> {
     private static final Class<?> CLASS_LANGUAGE = MinecraftReflection.findClass(
       findNmsClassName("LocaleLanguage"),
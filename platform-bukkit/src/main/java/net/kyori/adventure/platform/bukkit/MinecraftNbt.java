@@ -0,0 +1,206 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.BinaryTagType;
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.ByteArrayBinaryTag;
+import net.kyori.adventure.nbt.ByteBinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.DoubleBinaryTag;
+import net.kyori.adventure.nbt.FloatBinaryTag;
+import net.kyori.adventure.nbt.IntArrayBinaryTag;
+import net.kyori.adventure.nbt.IntBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.LongArrayBinaryTag;
+import net.kyori.adventure.nbt.LongBinaryTag;
+import net.kyori.adventure.nbt.ShortBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findClass;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findConstructor;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findMcClassName;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.findNmsClassName;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.lookup;
+import static net.kyori.adventure.platform.bukkit.MinecraftReflection.searchMethod;
+
+/**
+ * Converts adventure {@link BinaryTag}s into {@code net.minecraft} tag objects.
+ *
+ * <p>Tags are built structurally through cached constructors and put methods,
+ * rather than being encoded to bytes and read back through {@code NbtIo}.</p>
+ */
+final class MinecraftNbt {
+  static final @Nullable Class<?> CLASS_NBT_BASE = findClass(
+    findNmsClassName("NBTBase"),
+    findMcClassName("nbt.NBTBase"),
+    findMcClassName("nbt.Tag")
+  );
+  static final @Nullable Class<?> CLASS_NBT_TAG_COMPOUND = findTagClass("NBTTagCompound", "CompoundTag");
+  static final @Nullable Class<?> CLASS_NBT_TAG_LIST = findTagClass("NBTTagList", "ListTag");
+
+  private static final @Nullable MethodHandle NEW_COMPOUND = findConstructor(CLASS_NBT_TAG_COMPOUND);
+  private static final @Nullable MethodHandle COMPOUND_PUT = findPut(CLASS_NBT_TAG_COMPOUND);
+  private static final @Nullable MethodHandle NEW_LIST = findConstructor(CLASS_NBT_TAG_LIST);
+  private static final @Nullable MethodHandle LIST_ADD = findAdd(CLASS_NBT_TAG_LIST);
+
+  private static final @Nullable MethodHandle NEW_STRING = findFactory(findTagClass("NBTTagString", "StringTag"), String.class);
+  private static final @Nullable MethodHandle NEW_BYTE = findFactory(findTagClass("NBTTagByte", "ByteTag"), byte.class);
+  private static final @Nullable MethodHandle NEW_SHORT = findFactory(findTagClass("NBTTagShort", "ShortTag"), short.class);
+  private static final @Nullable MethodHandle NEW_INT = findFactory(findTagClass("NBTTagInt", "IntTag"), int.class);
+  private static final @Nullable MethodHandle NEW_LONG = findFactory(findTagClass("NBTTagLong", "LongTag"), long.class);
+  private static final @Nullable MethodHandle NEW_FLOAT = findFactory(findTagClass("NBTTagFloat", "FloatTag"), float.class);
+  private static final @Nullable MethodHandle NEW_DOUBLE = findFactory(findTagClass("NBTTagDouble", "DoubleTag"), double.class);
+  private static final @Nullable MethodHandle NEW_BYTE_ARRAY = findFactory(findTagClass("NBTTagByteArray", "ByteArrayTag"), byte[].class);
+  private static final @Nullable MethodHandle NEW_INT_ARRAY = findFactory(findTagClass("NBTTagIntArray", "IntArrayTag"), int[].class);
+  private static final @Nullable MethodHandle NEW_LONG_ARRAY = findFactory(findTagClass("NBTTagLongArray", "LongArrayTag"), long[].class);
+
+  private MinecraftNbt() {
+  }
+
+  private static @Nullable Class<?> findTagClass(final @NotNull String legacyName, final @NotNull String mojangName) {
+    return findClass(
+      findNmsClassName(legacyName),
+      findMcClassName("nbt." + legacyName),
+      findMcClassName("nbt." + mojangName)
+    );
+  }
+
+  // CompoundTag.put(String, Tag) is obfuscated on some versions, but its signature is unique
+  private static @Nullable MethodHandle findPut(final @Nullable Class<?> compoundClass) {
+    if (compoundClass == null || CLASS_NBT_BASE == null) return null;
+    for (final Method method : compoundClass.getMethods()) {
+      if (!Modifier.isStatic(method.getModifiers())
+        && method.getParameterCount() == 2
+        && method.getParameterTypes()[0] == String.class
+        && method.getParameterTypes()[1] == CLASS_NBT_BASE) {
+        try {
+          return lookup().unreflect(method);
+        } catch (final IllegalAccessException ignore) {
+        }
+      }
+    }
+    return null;
+  }
+
+  private static @Nullable MethodHandle findAdd(final @Nullable Class<?> listClass) {
+    if (listClass == null) return null;
+    if (List.class.isAssignableFrom(listClass)) { // 1.14+
+      try {
+        return lookup().findVirtual(List.class, "add", MethodType.methodType(boolean.class, Object.class));
+      } catch (final NoSuchMethodException | IllegalAccessException ignore) {
+        return null;
+      }
+    }
+    return searchMethod(listClass, Modifier.PUBLIC, "add", void.class, CLASS_NBT_BASE);
+  }
+
+  // newer versions hide tag constructors behind static factories (valueOf) that cache common values
+  private static @Nullable MethodHandle findFactory(final @Nullable Class<?> tagClass, final @NotNull Class<?> valueClass) {
+    if (tagClass == null) return null;
+    for (final Method method : tagClass.getDeclaredMethods()) {
+      if (Modifier.isStatic(method.getModifiers())
+        && Modifier.isPublic(method.getModifiers())
+        && method.getReturnType() == tagClass
+        && method.getParameterCount() == 1
+        && method.getParameterTypes()[0] == valueClass) {
+        try {
+          return lookup().unreflect(method);
+        } catch (final IllegalAccessException ignore) {
+        }
+      }
+    }
+    return findConstructor(tagClass, valueClass);
+  }
+
+  /**
+   * Gets whether compound and list tags can be created directly.
+   *
+   * @return if supported
+   */
+  static boolean isSupported() {
+    return NEW_COMPOUND != null && COMPOUND_PUT != null && NEW_LIST != null && LIST_ADD != null;
+  }
+
+  /**
+   * Converts a tag into its {@code net.minecraft} equivalent.
+   *
+   * @param tag a tag
+   * @return a minecraft tag
+   * @throws Throwable if the tag type could not be created
+   */
+  static @NotNull Object toMinecraft(final @NotNull BinaryTag tag) throws Throwable {
+    final BinaryTagType<? extends BinaryTag> type = tag.type();
+    if (type == BinaryTagTypes.COMPOUND) {
+      final Object compound = need(NEW_COMPOUND, type).invoke();
+      for (final Map.Entry<String, ? extends BinaryTag> entry : (CompoundBinaryTag) tag) {
+        COMPOUND_PUT.invoke(compound, entry.getKey(), toMinecraft(entry.getValue()));
+      }
+      return compound;
+    } else if (type == BinaryTagTypes.LIST) {
+      final Object list = need(NEW_LIST, type).invoke();
+      for (final BinaryTag element : (ListBinaryTag) tag) {
+        LIST_ADD.invoke(list, toMinecraft(element));
+      }
+      return list;
+    } else if (type == BinaryTagTypes.STRING) {
+      return need(NEW_STRING, type).invoke(((StringBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.BYTE) {
+      return need(NEW_BYTE, type).invoke(((ByteBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.SHORT) {
+      return need(NEW_SHORT, type).invoke(((ShortBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.INT) {
+      return need(NEW_INT, type).invoke(((IntBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.LONG) {
+      return need(NEW_LONG, type).invoke(((LongBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.FLOAT) {
+      return need(NEW_FLOAT, type).invoke(((FloatBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.DOUBLE) {
+      return need(NEW_DOUBLE, type).invoke(((DoubleBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.BYTE_ARRAY) {
+      return need(NEW_BYTE_ARRAY, type).invoke(((ByteArrayBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.INT_ARRAY) {
+      return need(NEW_INT_ARRAY, type).invoke(((IntArrayBinaryTag) tag).value());
+    } else if (type == BinaryTagTypes.LONG_ARRAY) {
+      return need(NEW_LONG_ARRAY, type).invoke(((LongArrayBinaryTag) tag).value());
+    }
+    throw new UnsupportedOperationException("Unsupported tag type " + type);
+  }
+
+  private static @NotNull MethodHandle need(final @Nullable MethodHandle handle, final @NotNull BinaryTagType<?> type) {
+    if (handle == null) {
+      throw new UnsupportedOperationException("No minecraft equivalent found for tag type " + type);
+    }
+    return handle;
+  }
+}
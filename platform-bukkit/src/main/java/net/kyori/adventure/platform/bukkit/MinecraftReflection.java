@@ -23,18 +23,35 @@
  */
 package net.kyori.adventure.platform.bukkit;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.platform.facet.Knob;
 import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
+import static net.kyori.adventure.platform.facet.Knob.logError;
+import static net.kyori.adventure.platform.facet.Knob.logMessage;
 
 /**
  * Reflection utilities for accessing {@code net.minecraft.server}.
@@ -65,6 +82,100 @@ final class MinecraftReflection {
     }
   }
 
+  private static final Set<String> MISSING_CLASSES = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  private static final Path PROBE_FILE = Paths.get("cache", "adventure-platform-reflection.properties");
+  private static final String PROBE_FILE_VERSION = "version";
+  private static final int PROBE_FORMAT = 2; // bumped when the probe keys change
+  private static final @Nullable String PROBE_VERSION = VERSION == null ? null : PROBE_FORMAT + " " + VERSION + " " + Bukkit.getVersion();
+  private static final boolean PROBE_CACHE = PROBE_VERSION != null && Knob.isEnabled("reflection-cache", false);
+  private static final Map<String, String> PROBES = new ConcurrentHashMap<>();
+  private static volatile boolean probesDirty;
+  static volatile boolean directFallback; // set once a handle could not be bound directly, so the fallback is only logged once
+
+  static {
+    if (PROBE_CACHE && Files.isRegularFile(PROBE_FILE)) {
+      final Properties properties = new Properties();
+      try (final InputStream input = Files.newInputStream(PROBE_FILE)) {
+        properties.load(input);
+      } catch (final IOException error) {
+        logError(error, "Failed to read reflection probes from %s", PROBE_FILE);
+      }
+      // probe results are only valid for the exact server build they were recorded on
+      if (PROBE_VERSION.equals(properties.getProperty(PROBE_FILE_VERSION))) {
+        for (final String probe : properties.stringPropertyNames()) {
+          if (!probe.equals(PROBE_FILE_VERSION)) {
+            PROBES.put(probe, properties.getProperty(probe));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Saves the results of reflection probes, if persisting them is enabled.
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.reflection-cache=true}, to persist probes.</p>
+   */
+  static void saveProbes() {
+    if (!PROBE_CACHE || !probesDirty) return;
+    probesDirty = false;
+
+    final Properties properties = new Properties();
+    properties.putAll(PROBES);
+    properties.setProperty(PROBE_FILE_VERSION, PROBE_VERSION);
+    try {
+      final Path directory = PROBE_FILE.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      // other plugins shading adventure-platform may share the file, so replace it atomically
+      final Path temporary = Files.createTempFile(directory, "adventure-platform", ".tmp");
+      try (final OutputStream output = Files.newOutputStream(temporary)) {
+        properties.store(output, "adventure-platform reflection probes");
+      }
+      try {
+        Files.move(temporary, PROBE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException ignore) {
+        Files.move(temporary, PROBE_FILE, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException error) {
+      logError(error, "Failed to save reflection probes to %s", PROBE_FILE);
+    }
+  }
+
+  private static @Nullable String probeKey(final @NotNull String kind, final @Nullable String@NotNull... names) {
+    if (!PROBE_CACHE) return null;
+    final StringBuilder key = new StringBuilder(kind);
+    for (final String name : names) {
+      if (name != null) key.append(':').append(name);
+    }
+    return key.toString();
+  }
+
+  // MethodType#toString uses simple names, which can clash between packages
+  private static @NotNull String typeName(final @NotNull MethodType type) {
+    final StringBuilder name = new StringBuilder("(");
+    for (int i = 0; i < type.parameterCount(); i++) {
+      if (i > 0) name.append(',');
+      name.append(type.parameterType(i).getName());
+    }
+    return name.append(')').append(type.returnType().getName()).toString();
+  }
+
+  private static void recordProbe(final @Nullable String probe, final @NotNull String result) {
+    if (probe != null && !result.equals(PROBES.put(probe, result))) {
+      probesDirty = true;
+    }
+  }
+
+  private static @Nullable Class<?> loadClass(final @NotNull String className) {
+    if (MISSING_CLASSES.contains(className)) return null;
+    try {
+      return Class.forName(className);
+    } catch (final ClassNotFoundException e) {
+      MISSING_CLASSES.add(className);
+      return null;
+    }
+  }
+
   /**
    * Gets a class by the first name available.
    *
@@ -72,15 +183,26 @@ final class MinecraftReflection {
    * @return a class or {@code null} if not found
    */
   public static @Nullable Class<?> findClass(final @Nullable String@NotNull... classNames) {
+    final String probe = probeKey("class", classNames);
+    if (probe != null) {
+      final String known = PROBES.get(probe);
+      if (known != null) {
+        if (known.isEmpty()) return null;
+        final Class<?> classObj = loadClass(known);
+        if (classObj != null) return classObj;
+      }
+    }
+
     for (final String clazz : classNames) {
       if (clazz == null) continue;
 
-      try {
-        final Class<?> classObj = Class.forName(clazz);
+      final Class<?> classObj = loadClass(clazz);
+      if (classObj != null) {
+        recordProbe(probe, clazz);
         return classObj;
-      } catch (final ClassNotFoundException e) {
       }
     }
+    recordProbe(probe, "");
     return null;
   }
 
@@ -185,18 +307,39 @@ final class MinecraftReflection {
       }
     }
 
+    final MethodType type = MethodType.methodType(returnClass, parameterClasses);
+    final String probe = probeKey("method", holderClass.getName(), String.valueOf(modifier), typeName(type));
+    if (probe != null) {
+      final String known = PROBES.get(probe);
+      if (known != null) {
+        if (known.isEmpty()) return null;
+        try {
+          if (modifier != null && Modifier.isStatic(modifier)) {
+            return LOOKUP.findStatic(holderClass, known, type);
+          } else {
+            return LOOKUP.findVirtual(holderClass, known, type);
+          }
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+        }
+      }
+    }
+
     for (final Method method : holderClass.getDeclaredMethods()) {
       if ((modifier == null || (method.getModifiers() & modifier) == 0)
               || !Arrays.equals(method.getParameterTypes(), parameterClasses)) continue;
       try {
+        final MethodHandle handle;
         if (Modifier.isStatic(modifier)) {
-          return LOOKUP.findStatic(holderClass, method.getName(), MethodType.methodType(returnClass, parameterClasses));
+          handle = LOOKUP.findStatic(holderClass, method.getName(), type);
         } else {
-          return LOOKUP.findVirtual(holderClass, method.getName(), MethodType.methodType(returnClass, parameterClasses));
+          handle = LOOKUP.findVirtual(holderClass, method.getName(), type);
         }
+        recordProbe(probe, method.getName());
+        return handle;
       } catch (final NoSuchMethodException | IllegalAccessException e) {
       }
     }
+    recordProbe(probe, "");
     return null;
   }
 
@@ -579,6 +722,77 @@ final class MinecraftReflection {
     return requireNonNull(findMcClass(className), "Could not find net.minecraft class from candidates" + Arrays.toString(className));
   }
 
+  /**
+   * A direct call to a member taking one argument, such as a getter method or field.
+   */
+  @FunctionalInterface
+  interface Accessor {
+    @Nullable Object get(final @Nullable Object holder) throws Throwable;
+  }
+
+  /**
+   * A direct call to a member taking two arguments and returning nothing, such as a setter method or field.
+   */
+  @FunctionalInterface
+  interface Mutator {
+    void set(final @Nullable Object holder, final @Nullable Object value) throws Throwable;
+  }
+
+  /**
+   * Creates an accessor for a method handle.
+   *
+   * <p>Methods are bound through a generated class that invokes them directly, so the JIT
+   * can inline the call as it would compiled code. Other handles are invoked exactly.</p>
+   *
+   * @param handle a handle that accepts one argument
+   * @return an accessor, or {@code null} if the handle was {@code null}
+   */
+  public static @Nullable Accessor findAccessor(final @Nullable MethodHandle handle) {
+    if (handle == null) return null;
+    final Accessor direct = direct(Accessor.class, "get", MethodType.methodType(Object.class, Object.class), handle);
+    if (direct != null) return direct;
+    final MethodHandle exact = handle.asType(MethodType.methodType(Object.class, Object.class));
+    return holder -> (Object) exact.invokeExact(holder);
+  }
+
+  /**
+   * Creates a mutator for a method handle.
+   *
+   * <p>Methods are bound through a generated class that invokes them directly, so the JIT
+   * can inline the call as it would compiled code. Other handles are invoked exactly.</p>
+   *
+   * @param handle a handle that accepts two arguments
+   * @return a mutator, or {@code null} if the handle was {@code null}
+   */
+  public static @Nullable Mutator findMutator(final @Nullable MethodHandle handle) {
+    if (handle == null) return null;
+    final Mutator direct = direct(Mutator.class, "set", MethodType.methodType(void.class, Object.class, Object.class), handle);
+    if (direct != null) return direct;
+    final MethodHandle exact = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    return (holder, value) -> exact.invokeExact(holder, value);
+  }
+
+  private static <T> @Nullable T direct(final @NotNull Class<T> type, final @NotNull String name, final @NotNull MethodType erasedType, final @NotNull MethodHandle handle) {
+    try {
+      final MethodType implType = handle.type().changeReturnType(erasedType.returnType() == void.class ? void.class : handle.type().returnType());
+      return type.cast(LambdaMetafactory.metafactory(
+        LOOKUP,
+        name,
+        MethodType.methodType(type),
+        erasedType,
+        handle,
+        implType
+      ).getTarget().invoke());
+    } catch (final Throwable error) {
+      // field handles and adapted handles can't be bound directly
+      if (!directFallback) {
+        directFallback = true;
+        logMessage("Falling back to exact invocation for handles that can't be bound directly, starting with %s: %s", handle, error);
+      }
+      return null;
+    }
+  }
+
   /**
    * Gets the singleton method handle lookup.
    *
@@ -0,0 +1,94 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BukkitPlayerGridTest {
+  @Test
+  void testTeleportToAnotherCell() {
+    final World world = world("My World");
+    final Location[] location = {new Location(world, 8, 64, 8)};
+    final Player player = player(location);
+    final BukkitPlayerGrid grid = new BukkitPlayerGrid();
+    grid.update(player, location[0]);
+    assertEquals(Collections.singletonList(player), grid.nearby(world, 8, 64, 8, 4));
+
+    // a teleport is reported with its destination, while the player may still be at their old location
+    final Location destination = new Location(world, 1000, 64, -1000);
+    grid.update(player, destination);
+    location[0] = destination;
+    assertEquals(Collections.emptyList(), grid.nearby(world, 8, 64, 8, 4));
+    assertEquals(Collections.singletonList(player), grid.nearby(world, 1000, 64, -1000, 4));
+  }
+
+  @Test
+  void testTeleportToAnotherWorld() {
+    final World from = world("world");
+    final World to = world("world_nether");
+    final Location[] location = {new Location(from, 8, 64, 8)};
+    final Player player = player(location);
+    final BukkitPlayerGrid grid = new BukkitPlayerGrid();
+    grid.update(player, location[0]);
+
+    location[0] = new Location(to, 8, 64, 8);
+    grid.update(player, location[0]);
+    assertEquals(Collections.emptyList(), grid.nearby(from, 8, 64, 8, 4));
+    assertEquals(Collections.singletonList(player), grid.nearby(to, 8, 64, 8, 4));
+  }
+
+  private static World world(final String name) {
+    final UUID id = UUID.randomUUID();
+    return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getUID": return id;
+        case "getName": return name;
+        case "hashCode": return System.identityHashCode(proxy);
+        case "equals": return proxy == args[0];
+        case "toString": return name;
+        default: throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+
+  private static Player player(final Location[] location) {
+    return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getLocation": return location[0].clone();
+        case "hashCode": return System.identityHashCode(proxy);
+        case "equals": return proxy == args[0];
+        case "toString": return "player";
+        default: throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+}
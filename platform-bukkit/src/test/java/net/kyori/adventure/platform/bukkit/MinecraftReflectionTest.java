@@ -0,0 +1,97 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinecraftReflectionTest {
+  @BeforeAll
+  static void setUpServer() {
+    // MinecraftReflection reads the server implementation when it is initialized
+    if (Bukkit.getServer() != null) return;
+    final Logger logger = Logger.getLogger("MinecraftReflectionTest");
+    Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] {Server.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getLogger": return logger;
+        case "getName": return "Test";
+        case "getVersion": return "test";
+        case "getBukkitVersion": return "test";
+        case "hashCode": return System.identityHashCode(proxy);
+        case "equals": return proxy == args[0];
+        case "toString": return "server";
+        default: throw new UnsupportedOperationException(method.getName());
+      }
+    }));
+  }
+
+  @Test
+  void testFieldAccessorFallsBackToExactInvocation() throws Throwable {
+    // field handles can't be bound through LambdaMetafactory
+    final MinecraftReflection.Accessor accessor = MinecraftReflection.findAccessor(MinecraftReflection.findGetterOf(Holder.class.getDeclaredField("value")));
+    assertNotNull(accessor);
+    assertTrue(MinecraftReflection.directFallback);
+
+    final Holder holder = new Holder();
+    holder.value = "hello";
+    assertEquals("hello", accessor.get(holder));
+  }
+
+  @Test
+  void testFieldMutatorFallsBackToExactInvocation() throws Throwable {
+    final MinecraftReflection.Mutator mutator = MinecraftReflection.findMutator(MinecraftReflection.findSetterOf(Holder.class.getDeclaredField("value")));
+    assertNotNull(mutator);
+    assertTrue(MinecraftReflection.directFallback);
+
+    final Holder holder = new Holder();
+    mutator.set(holder, "world");
+    assertEquals("world", holder.value);
+  }
+
+  @Test
+  void testMethodAccessor() throws Throwable {
+    final MinecraftReflection.Accessor accessor = MinecraftReflection.findAccessor(MinecraftReflection.findMethod(Holder.class, "value", Object.class));
+    assertNotNull(accessor);
+
+    final Holder holder = new Holder();
+    holder.value = "hello";
+    assertEquals("hello", accessor.get(holder));
+  }
+
+  static final class Holder {
+    Object value;
+
+    Object value() {
+      return this.value;
+    }
+  }
+}
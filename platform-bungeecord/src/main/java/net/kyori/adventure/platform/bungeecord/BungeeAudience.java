@@ -44,12 +44,15 @@ final class BungeeAudience extends FacetAudience<CommandSender> {
   private static final Collection<Facet.TabList<ProxiedPlayer, ?>> TAB_LIST = Facet.of(
     BungeeFacet.TabList::new
   );
+  private static final Collection<Facet.Connection<ProxiedPlayer>> CONNECTION = Facet.of(
+    BungeeFacet.PlayerChannel::new
+  );
   private static final Collection<Facet.Pointers<? extends CommandSender>> POINTERS = Facet.of(
     BungeeFacet.CommandSenderPointers::new,
     BungeeFacet.PlayerPointers::new
   );
 
   BungeeAudience(final @NotNull BungeeAudiencesImpl provider, final @NotNull Collection<? extends CommandSender> viewers) {
-    super(provider, viewers, CHAT, ACTION_BAR, TITLE, null, null, null, BOSS_BAR, TAB_LIST, POINTERS);
+    super(provider, viewers, CHAT, ACTION_BAR, TITLE, null, null, null, BOSS_BAR, TAB_LIST, CONNECTION, POINTERS);
   }
 }
@@ -29,6 +29,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.logging.Level;
 import net.kyori.adventure.audience.Audience;
@@ -48,6 +50,7 @@ import net.md_5.bungee.api.event.PostLoginEvent;
 import net.md_5.bungee.api.plugin.Plugin;
 import net.md_5.bungee.event.EventHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 import static net.kyori.adventure.platform.facet.Knob.logError;
@@ -83,8 +86,8 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
   private final Plugin plugin;
   private final Listener listener;
 
-  BungeeAudiencesImpl(final Plugin plugin, final @NotNull ComponentRenderer<Pointered> componentRenderer) {
-    super(componentRenderer);
+  BungeeAudiencesImpl(final Plugin plugin, final @NotNull ComponentRenderer<Pointered> componentRenderer, final @NotNull Function<Pointered, ?> partition, final @Nullable Executor renderExecutor) {
+    super(componentRenderer, partition, renderExecutor);
     this.plugin = requireNonNull(plugin, "plugin");
     this.listener = new Listener();
     this.plugin.getProxy().getPluginManager().registerListener(this.plugin, this.listener);
@@ -124,6 +127,18 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
     return BungeeFacet.FLATTENER;
   }
 
+  @Override
+  protected @NotNull Executor tickExecutor() {
+    // the proxy has no ticks, so use the length of a server tick
+    return task -> this.plugin.getProxy().getScheduler().schedule(this.plugin, task, 50, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected @NotNull Executor sendExecutor() {
+    // the proxy writes straight to each player's channel, so any thread can send
+    return Runnable::run;
+  }
+
   @Override
   public void close() {
     BungeeAudiencesImpl.INSTANCES.remove(this.plugin.getDescription().getName());
@@ -134,6 +149,8 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
   static final class Builder implements BungeeAudiences.Builder {
     private final @NotNull Plugin plugin;
     private ComponentRenderer<Pointered> componentRenderer;
+    private Function<Pointered, ?> partition = DEFAULT_PARTITION;
+    private @Nullable Executor renderExecutor;
 
     Builder(final @NotNull Plugin plugin) {
       this.plugin = requireNonNull(plugin, "plugin");
@@ -148,13 +165,19 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
 
     @Override
     public BungeeAudiences.@NotNull Builder partition(final @NotNull Function<Pointered, ?> partitionFunction) {
-      requireNonNull(partitionFunction, "partitionFunction"); // unused
+      this.partition = requireNonNull(partitionFunction, "partitionFunction");
+      return this;
+    }
+
+    @Override
+    public BungeeAudiences.@NotNull Builder renderExecutor(final @NotNull Executor renderExecutor) {
+      this.renderExecutor = requireNonNull(renderExecutor, "renderExecutor");
       return this;
     }
 
     @Override
     public @NotNull BungeeAudiences build() {
-      return INSTANCES.computeIfAbsent(this.plugin.getDescription().getName(), name -> new BungeeAudiencesImpl(this.plugin, this.componentRenderer));
+      return INSTANCES.computeIfAbsent(this.plugin.getDescription().getName(), name -> new BungeeAudiencesImpl(this.plugin, this.componentRenderer, this.partition, this.renderExecutor));
     }
   }
 
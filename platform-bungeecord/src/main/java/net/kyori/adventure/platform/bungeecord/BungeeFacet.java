@@ -28,6 +28,8 @@ import java.util.Collection;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.permission.PermissionChecker;
@@ -237,13 +239,17 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
     }
 
     private final Set<ProxiedPlayer> viewers;
-    private final net.md_5.bungee.protocol.packet.BossBar bar;
+    private final UUID id;
+    private final net.md_5.bungee.protocol.packet.BossBar remove;
+    private final AtomicReference<State> state;
     private volatile boolean initialized = false;
 
     protected BossBar(final @NotNull Collection<ProxiedPlayer> viewers) {
       super();
       this.viewers = new CopyOnWriteArraySet<>(viewers);
-      this.bar = new net.md_5.bungee.protocol.packet.BossBar(UUID.randomUUID(), ACTION_ADD);
+      this.id = UUID.randomUUID();
+      this.remove = new net.md_5.bungee.protocol.packet.BossBar(this.id, ACTION_REMOVE);
+      this.state = new AtomicReference<>(new State(null, 0, 0, 0, (byte) 0));
     }
 
     static class Builder extends BungeeFacet<ProxiedPlayer> implements Facet.BossBar.Builder<ProxiedPlayer, net.kyori.adventure.platform.bungeecord.BungeeFacet.BossBar> {
@@ -266,52 +272,49 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
     public void bossBarInitialized(final net.kyori.adventure.bossbar.@NotNull BossBar bar) {
       BossBarPacket.super.bossBarInitialized(bar);
       this.initialized = true;
-      this.broadcastPacket(ACTION_ADD);
+      this.broadcastPacket(ACTION_ADD, this.state.get());
     }
 
     @Override
     public void bossBarNameChanged(final net.kyori.adventure.bossbar.@NotNull BossBar bar, final @NotNull Component oldName, final @NotNull Component newName) {
       if (!this.viewers.isEmpty()) {
         final BaseComponent[] message = this.createMessage(this.viewers.iterator().next(), newName);
-        this.updateBarTitle(message);
-        this.broadcastPacket(ACTION_TITLE);
+        this.broadcastPacket(ACTION_TITLE, this.state.updateAndGet(state -> new State(message, state.health, state.color, state.division, state.flags)));
       }
     }
 
     @Override
     public void bossBarProgressChanged(final net.kyori.adventure.bossbar.@NotNull BossBar bar, final float oldPercent, final float newPercent) {
-      this.bar.setHealth(newPercent);
-      this.broadcastPacket(ACTION_HEALTH);
+      this.broadcastPacket(ACTION_HEALTH, this.state.updateAndGet(state -> new State(state.title, newPercent, state.color, state.division, state.flags)));
     }
 
     @Override
     public void bossBarColorChanged(final net.kyori.adventure.bossbar.@NotNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NotNull Color oldColor, final net.kyori.adventure.bossbar.BossBar.@NotNull Color newColor) {
-      this.bar.setColor(this.createColor(newColor));
-      this.broadcastPacket(ACTION_STYLE);
+      final int color = this.createColor(newColor);
+      this.broadcastPacket(ACTION_STYLE, this.state.updateAndGet(state -> new State(state.title, state.health, color, state.division, state.flags)));
     }
 
     @Override
     public void bossBarOverlayChanged(final net.kyori.adventure.bossbar.@NotNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NotNull Overlay oldOverlay, final net.kyori.adventure.bossbar.BossBar.@NotNull Overlay newOverlay) {
-      this.bar.setDivision(this.createOverlay(newOverlay));
-      this.broadcastPacket(ACTION_STYLE);
+      final int division = this.createOverlay(newOverlay);
+      this.broadcastPacket(ACTION_STYLE, this.state.updateAndGet(state -> new State(state.title, state.health, state.color, division, state.flags)));
     }
 
     @Override
     public void bossBarFlagsChanged(final net.kyori.adventure.bossbar.@NotNull BossBar bar, final @NotNull Set<net.kyori.adventure.bossbar.BossBar.Flag> flagsAdded, final @NotNull Set<net.kyori.adventure.bossbar.BossBar.Flag> flagsRemoved) {
-      this.bar.setFlags(this.createFlag(this.bar.getFlags(), flagsAdded, flagsRemoved));
-      this.broadcastPacket(ACTION_FLAG);
+      this.broadcastPacket(ACTION_FLAG, this.state.updateAndGet(state -> new State(state.title, state.health, state.color, state.division, this.createFlag(state.flags, flagsAdded, flagsRemoved))));
     }
 
     @Override
     public void addViewer(final @NotNull ProxiedPlayer viewer) {
       this.viewers.add(viewer);
-      this.sendPacket(ACTION_ADD, viewer);
+      viewer.unsafe().sendPacket(this.state.get().add(this));
     }
 
     @Override
     public void removeViewer(final @NotNull ProxiedPlayer viewer) {
       this.viewers.remove(viewer);
-      this.sendPacket(ACTION_REMOVE, viewer);
+      viewer.unsafe().sendPacket(this.remove);
     }
 
     @Override
@@ -321,41 +324,67 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void close() {
-      this.broadcastPacket(ACTION_REMOVE);
+      if (!this.isEmpty()) {
+        for (final ProxiedPlayer viewer : this.viewers) {
+          viewer.unsafe().sendPacket(this.remove);
+        }
+      }
       this.viewers.clear();
     }
 
-    private void broadcastPacket(final int action) {
+    private void broadcastPacket(final int action, final @NotNull State state) {
       if (this.isEmpty()) return;
 
-      synchronized (this.bar) {
-        this.bar.setAction(action);
-        for (final ProxiedPlayer viewer : this.viewers) {
-          viewer.unsafe().sendPacket(this.bar);
-        }
+      final net.md_5.bungee.protocol.packet.BossBar packet = action == ACTION_ADD ? state.add(this) : this.createPacket(action, state);
+      for (final ProxiedPlayer viewer : this.viewers) {
+        viewer.unsafe().sendPacket(packet);
       }
     }
 
-    private void updateBarTitle(final BaseComponent[] message) {
-      try {
-        if (SET_TITLE_STRING != null) {
-          SET_TITLE_STRING.invoke(this.bar, ComponentSerializer.toString(message));
-        } else {
-          SET_TITLE_COMPONENT.invoke(this.bar, TextComponent.fromArray(message));
+    // packets are never changed once created, so each can be shared between viewers and threads
+    private net.md_5.bungee.protocol.packet.@NotNull BossBar createPacket(final int action, final @NotNull State state) {
+      final net.md_5.bungee.protocol.packet.BossBar packet = new net.md_5.bungee.protocol.packet.BossBar(this.id, action);
+      if (state.title != null) {
+        try {
+          if (SET_TITLE_STRING != null) {
+            SET_TITLE_STRING.invoke(packet, ComponentSerializer.toString(state.title));
+          } else {
+            SET_TITLE_COMPONENT.invoke(packet, TextComponent.fromArray(state.title));
+          }
+        } catch (final Throwable throwable) {
+          logError(throwable, "Cannot update the BossBar title");
         }
-      } catch (final Throwable throwable) {
-        logError(throwable, "Cannot update the BossBar title");
       }
-    }
+      packet.setHealth(state.health);
+      packet.setColor(state.color);
+      packet.setDivision(state.division);
+      packet.setFlags(state.flags);
+      return packet;
+    }
+
+    // an immutable snapshot of the bar's properties
+    private static final class State {
+      private final BaseComponent @Nullable[] title;
+      private final float health;
+      private final int color;
+      private final int division;
+      private final byte flags;
+      private volatile net.md_5.bungee.protocol.packet.@Nullable BossBar add; // lazy init
+
+      State(final BaseComponent @Nullable[] title, final float health, final int color, final int division, final byte flags) {
+        this.title = title;
+        this.health = health;
+        this.color = color;
+        this.division = division;
+        this.flags = flags;
+      }
 
-    private void sendPacket(final int action, final ProxiedPlayer... viewers) {
-      synchronized (this.bar) {
-        final int lastAction = this.bar.getAction();
-        this.bar.setAction(action);
-        for (final ProxiedPlayer viewer : viewers) {
-          viewer.unsafe().sendPacket(this.bar);
+      net.md_5.bungee.protocol.packet.@NotNull BossBar add(final net.kyori.adventure.platform.bungeecord.BungeeFacet.@NotNull BossBar facet) {
+        net.md_5.bungee.protocol.packet.BossBar add = this.add;
+        if (add == null) {
+          this.add = add = facet.createPacket(ACTION_ADD, this);
         }
-        this.bar.setAction(lastAction);
+        return add;
       }
     }
   }
@@ -370,6 +399,72 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
+  static final class PlayerChannel extends BungeeFacet<ProxiedPlayer> implements Facet.Connection<ProxiedPlayer> {
+    private static final @Nullable Class<?> CLASS_USER_CONNECTION;
+    private static final @Nullable MethodHandle USER_CONNECTION_GET_CH;
+    private static final @Nullable MethodHandle CHANNEL_WRAPPER_GET_HANDLE;
+    private static final @Nullable MethodHandle CHANNEL_IS_WRITABLE;
+    private static final @Nullable MethodHandle CHANNEL_EVENT_LOOP;
+
+    static {
+      // The API only exposes Unsafe#sendPacket, so the channel is found through the proxy's own player implementation
+      Class<?> userConnectionClass = null;
+      Class<?> channelWrapperClass = null;
+      Class<?> channelClass = null;
+      Class<?> eventLoopClass = null;
+      try {
+        userConnectionClass = Class.forName("net.md_5.bungee.UserConnection");
+        channelWrapperClass = Class.forName("net.md_5.bungee.netty.ChannelWrapper");
+        channelClass = Class.forName("io.netty.channel.Channel");
+        eventLoopClass = Class.forName("io.netty.channel.EventLoop");
+      } catch (final ClassNotFoundException error) {
+        // Not BungeeCord itself, or a fork that moved these
+      }
+      CLASS_USER_CONNECTION = userConnectionClass;
+      USER_CONNECTION_GET_CH = findMethod(userConnectionClass, "getCh", channelWrapperClass);
+      CHANNEL_WRAPPER_GET_HANDLE = findMethod(channelWrapperClass, "getHandle", channelClass);
+      CHANNEL_IS_WRITABLE = findMethod(channelClass, "isWritable", boolean.class);
+      CHANNEL_EVENT_LOOP = findMethod(channelClass, "eventLoop", eventLoopClass);
+    }
+
+    PlayerChannel() {
+      super(ProxiedPlayer.class);
+    }
+
+    @Override
+    public boolean isSupported() {
+      return super.isSupported() && USER_CONNECTION_GET_CH != null && CHANNEL_WRAPPER_GET_HANDLE != null && CHANNEL_IS_WRITABLE != null;
+    }
+
+    @Override
+    public boolean isApplicable(final @NotNull ProxiedPlayer viewer) {
+      return super.isApplicable(viewer) && CLASS_USER_CONNECTION.isInstance(viewer);
+    }
+
+    @Override
+    public boolean isWritable(final @NotNull ProxiedPlayer viewer) {
+      try {
+        final Object channel = CHANNEL_WRAPPER_GET_HANDLE.invoke(USER_CONNECTION_GET_CH.invoke(viewer));
+        return channel == null || (boolean) CHANNEL_IS_WRITABLE.invoke(channel);
+      } catch (final Throwable error) {
+        logError(error, "Failed to check BungeeCord connection: %s", viewer);
+        return true;
+      }
+    }
+
+    @Override
+    public @Nullable Executor eventLoop(final @NotNull ProxiedPlayer viewer) {
+      if (CHANNEL_EVENT_LOOP == null) return null;
+      try {
+        final Object channel = CHANNEL_WRAPPER_GET_HANDLE.invoke(USER_CONNECTION_GET_CH.invoke(viewer));
+        return channel == null ? null : (Executor) CHANNEL_EVENT_LOOP.invoke(channel);
+      } catch (final Throwable error) {
+        logError(error, "Failed to find BungeeCord event loop: %s", viewer);
+        return null;
+      }
+    }
+  }
+
   static final class CommandSenderPointers extends BungeeFacet<CommandSender> implements Facet.Pointers<CommandSender> {
     CommandSenderPointers() {
       super(CommandSender.class);
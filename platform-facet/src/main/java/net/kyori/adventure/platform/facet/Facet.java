@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
@@ -56,6 +57,8 @@ public interface Facet<V> {
   /**
    * Creates a collection of supported facets.
    *
+   * <p>Suppliers may return {@code null} to skip a facet without loading it.</p>
+   *
    * @param suppliers an array of facet suppliers
    * @param <V> a viewer type
    * @param <F> a facet type
@@ -76,6 +79,10 @@ public interface Facet<V> {
         logError(error, "Failed facet: %s", supplier);
         continue;
       }
+      if (facet == null) {
+        logMessage("Skipped facet: %s", supplier.getClass().getName());
+        continue;
+      }
       if (!facet.isSupported()) {
         logMessage("Skipped facet: %s", facet);
         continue;
@@ -389,6 +396,21 @@ public interface Facet<V> {
      * @since 4.0.0
      */
     @NotNull P createPosition(final double x, final double y, final double z);
+
+    /**
+     * Gets whether a viewer may be within a distance of a position.
+     *
+     * @param viewer a viewer
+     * @param x an x coordinate
+     * @param y a y coordinate
+     * @param z a z coordinate
+     * @param distance a distance
+     * @return if the viewer may be in range, or {@code true} if unknown
+     * @since 4.5.0
+     */
+    default boolean isInRange(final @NotNull V viewer, final double x, final double y, final double z, final double distance) {
+      return true;
+    }
   }
 
   /**
@@ -777,6 +799,38 @@ public interface Facet<V> {
     void send(final V viewer, final @Nullable M header, final @Nullable M footer);
   }
 
+  /**
+   * Methods for checking the connection of a viewer.
+   *
+   * @param <V> viewer
+   * @since 4.5.0
+   */
+  interface Connection<V> extends Facet<V> {
+    /**
+     * Gets whether the connection of a viewer can be written to without buffering.
+     *
+     * <p>A connection stops being writable when the client does not keep up with what is sent.</p>
+     *
+     * @param viewer a viewer
+     * @return if the connection is writable
+     * @since 4.5.0
+     */
+    boolean isWritable(final @NotNull V viewer);
+
+    /**
+     * Gets the event loop that writes to the connection of a viewer.
+     *
+     * <p>Messages can be sent from this event loop without being handed off to it.</p>
+     *
+     * @param viewer a viewer
+     * @return the event loop, or {@code null} if unknown
+     * @since 4.5.0
+     */
+    default @Nullable Executor eventLoop(final @NotNull V viewer) {
+      return null;
+    }
+  }
+
   /**
    * Methods for building pointers.
    *
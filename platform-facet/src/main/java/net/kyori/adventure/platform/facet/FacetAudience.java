@@ -26,19 +26,26 @@ package net.kyori.adventure.platform.facet;
 import java.io.Closeable;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.chat.ChatType;
 import net.kyori.adventure.chat.SignedMessage;
 import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.pointer.Pointers;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.sound.SoundStop;
@@ -65,11 +72,47 @@ import static java.util.Objects.requireNonNull;
  */
 @ApiStatus.Internal
 public class FacetAudience<V> implements Audience, Closeable {
+  private static final boolean COALESCE_BOSS_BARS = Knob.isEnabled("boss-bar-coalesce", false);
+  private static final boolean SEND_CACHE = Knob.isEnabled("send-cache", false);
+  private static final boolean COALESCE_TITLES = Knob.isEnabled("title-coalesce", false);
+  private static final boolean CULL_SOUNDS = Knob.isEnabled("sound-culling", false);
+  private static final boolean DELIVERY_POLICY = Knob.isEnabled("delivery-policy", false);
+  // kinds of cosmetic messages held back from congested viewers
+  private static final int DEFERRED_ACTION_BAR = 0;
+  private static final int DEFERRED_HEADER = 1;
+  private static final int DEFERRED_FOOTER = 2;
+  private static final double SOUND_RANGE = 16;
+  // action bars fade out, so an unchanged action bar is still sent once this long has passed
+  private static final long ACTION_BAR_RESEND_NANOS = TimeUnit.MILLISECONDS.toNanos(Knob.getInt("send-cache-action-bar-resend", 1000));
+  // how often a persistent action bar is sent again, just before it would fade
+  private static final long PERSISTENT_ACTION_BAR_NANOS = TimeUnit.MILLISECONDS.toNanos(Knob.getInt("persistent-action-bar-interval", 2000));
+
   protected final @NotNull FacetAudienceProvider<V, FacetAudience<V>> provider;
 
   private final @NotNull Set<V> viewers;
   private @Nullable V viewer;
   private volatile Pointers pointers; // lazy init
+  // the last rendered messages sent, when the send cache is enabled
+  private volatile @Nullable Component sentHeader;
+  private volatile @Nullable Component sentFooter;
+  private volatile @Nullable Component sentActionBar;
+  // the last tab list header and footer, to fill in the half that is not being changed,
+  // and their serialized forms, which are serialized again once the audience is refreshed
+  private volatile @Nullable Component header;
+  private volatile @Nullable Component footer;
+  private volatile @Nullable Object headerMessage;
+  private volatile @Nullable Object footerMessage;
+  private volatile long sentActionBarAt;
+  // persistent action bars by slot, and the one being shown
+  private final Map<Key, PersistentActionBar> persistentActionBars = new HashMap<>(0); // guarded by itself
+  private @Nullable PersistentActionBar shownActionBar; // guarded by persistentActionBars
+  private @Nullable Object shownActionBarMessage; // guarded by persistentActionBars
+  private long shownActionBarAt; // guarded by persistentActionBars
+  private long persistentActionBarCount; // guarded by persistentActionBars
+  // cosmetic messages held back from viewers with congested connections, by kind
+  private final Map<V, Object[]> deferred = new ConcurrentHashMap<>(0);
+  private final Object pendingTitleLock = new Object();
+  private @Nullable Object pendingTitle; // guarded by pendingTitleLock
 
   private final Facet.@Nullable Chat<V, Object> chat;
   private final Facet.@Nullable ActionBar<V, Object> actionBar;
@@ -78,8 +121,9 @@ public class FacetAudience<V> implements Audience, Closeable {
   private final Facet.@Nullable EntitySound<V, Object> entitySound;
   private final Facet.@Nullable Book<V, Object, Object> book;
   private final Facet.BossBar.@Nullable Builder<V, Facet.BossBar<V>> bossBar;
-  private final @Nullable Map<BossBar, Facet.BossBar<V>> bossBars;
+  private final @Nullable Map<BossBar, FacetBossBarListener<V>> bossBars;
   private final Facet.@Nullable TabList<V, Object> tabList;
+  private final Facet.@Nullable Connection<V> connection;
   private final @NotNull Collection<? extends Facet.Pointers<V>> pointerProviders;
 
   /**
@@ -114,6 +158,47 @@ public class FacetAudience<V> implements Audience, Closeable {
     final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar,
     final @Nullable Collection<? extends Facet.TabList> tabList,
     final @Nullable Collection<? extends Facet.Pointers> pointerProviders
+  ) {
+    this(provider, viewers, chat, actionBar, title, sound, entitySound, book, bossBar, tabList, null, pointerProviders);
+  }
+
+  /**
+   * Create a new facet-based audience.
+   *
+   * <p>When the {@code delivery-policy} knob is enabled, the connection facet is used to hold back
+   * cosmetic messages from viewers whose connection is congested.</p>
+   *
+   * @param provider for this audience
+   * @param viewers the viewers receiving content sent to this audience
+   * @param chat chat facet candidates
+   * @param actionBar action bar facet candidates
+   * @param title title facet candidates
+   * @param sound sound facet candidates
+   * @param entitySound entity sound facet candidates
+   * @param book book facet candidates
+   * @param bossBar boss bar facet candidates
+   * @param tabList tab list facet candidates
+   * @param connection connection facet candidates
+   * @param pointerProviders facets that provide pointers to this audience
+   * @since 4.5.0
+   */
+  @SuppressWarnings({
+    "unchecked",
+    "rawtypes"
+  }) // Without suppression, this constructor becomes unreadable
+  public FacetAudience(
+    final @NotNull FacetAudienceProvider provider,
+    final @NotNull Collection<? extends V> viewers,
+    final @Nullable Collection<? extends Facet.Chat> chat,
+    final @Nullable Collection<? extends Facet.ActionBar> actionBar,
+    final @Nullable Collection<? extends Facet.Title> title,
+    final @Nullable Collection<? extends Facet.Sound> sound,
+    final @Nullable Collection<? extends Facet.EntitySound> entitySound,
+    final @Nullable Collection<? extends Facet.Book> book,
+    final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar,
+    final @Nullable Collection<? extends Facet.TabList> tabList,
+    final @Nullable Collection<? extends Facet.Connection> connection,
+    final @Nullable Collection<? extends Facet.Pointers> pointerProviders
   ) {
     this.provider = requireNonNull(provider, "audience provider");
     this.viewers = new CopyOnWriteArraySet<>();
@@ -131,6 +216,7 @@ public class FacetAudience<V> implements Audience, Closeable {
     this.bossBars =
       this.bossBar == null ? null : Collections.synchronizedMap(new IdentityHashMap<>(4));
     this.tabList = Facet.of(tabList, this.viewer);
+    this.connection = Facet.of(connection, this.viewer);
     this.pointerProviders = pointerProviders == null ? Collections.emptyList() : (Collection) pointerProviders;
   }
 
@@ -141,9 +227,12 @@ public class FacetAudience<V> implements Audience, Closeable {
    * @since 4.0.0
    */
   public void addViewer(final @NotNull V viewer) {
-    if (this.viewers.add(viewer) && this.viewer == null) {
-      this.viewer = viewer;
-      this.refresh();
+    if (this.viewers.add(viewer)) {
+      this.clearSent(); // the new viewer has not been sent anything yet
+      if (this.viewer == null) {
+        this.viewer = viewer;
+        this.refresh();
+      }
     }
   }
 
@@ -174,13 +263,16 @@ public class FacetAudience<V> implements Audience, Closeable {
     synchronized (this) {
       this.pointers = null; // todo: is this necessary?
     }
+    this.clearSent();
+    synchronized (this.persistentActionBars) {
+      this.shownActionBarMessage = null; // render again for the new context when next sent
+    }
 
     if (this.bossBars == null) return;
-    for (final Map.Entry<BossBar, Facet.BossBar<V>> entry : this.bossBars.entrySet()) {
-      final BossBar bar = entry.getKey();
-      final Facet.BossBar<V> listener = entry.getValue();
-      // Since boss bars persist through a refresh, the titles must be re-rendered
-      listener.bossBarNameChanged(bar, bar.name(), bar.name());
+    for (final Map.Entry<BossBar, FacetBossBarListener<V>> entry : this.bossBars.entrySet()) {
+      // Since boss bars persist through a refresh, the titles must be re-rendered,
+      // but only need to be sent again if they now render differently
+      entry.getValue().bossBarNameRefreshed(entry.getKey());
     }
   }
 
@@ -228,10 +320,23 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void sendActionBar(final @NotNull Component original) {
     if (this.actionBar == null) return;
 
-    final Object message = this.createMessage(original, this.actionBar);
+    final Component rendered = this.render(original);
+    final long now = System.nanoTime();
+    if (SEND_CACHE && rendered.equals(this.sentActionBar) && now - this.sentActionBarAt < ACTION_BAR_RESEND_NANOS) return;
+    final Object message = this.serialize(rendered, this.actionBar);
     if (message == null) return;
+    if (SEND_CACHE) {
+      this.sentActionBar = rendered;
+      this.sentActionBarAt = now;
+    }
 
+    final Facet.Connection<V> congestion = this.congestion();
     for (final V viewer : this.viewers) {
+      if (this.isCongested(congestion, viewer)) {
+        this.defer(viewer, DEFERRED_ACTION_BAR, message);
+        continue;
+      }
+      this.supersede(viewer, DEFERRED_ACTION_BAR, message);
       this.actionBar.sendMessage(viewer, message);
     }
   }
@@ -240,7 +345,9 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void playSound(final net.kyori.adventure.sound.@NotNull Sound original) {
     if (this.sound == null) return;
 
+    final Facet.Connection<V> congestion = this.congestion();
     for (final V viewer : this.viewers) {
+      if (this.dropIfCongested(congestion, viewer)) continue;
       final Object position = this.sound.createPosition(viewer);
       if (position == null) continue;
 
@@ -252,7 +359,9 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void playSound(final @NotNull Sound sound, final Sound.@NotNull Emitter emitter) {
     if (this.entitySound == null) return;
     if (emitter == Sound.Emitter.self()) {
+      final Facet.Connection<V> congestion = this.congestion();
       for (final V viewer : this.viewers) {
+        if (this.dropIfCongested(congestion, viewer)) continue;
         final Object message = this.entitySound.createForSelf(viewer, sound);
         if (message == null) continue;
         this.entitySound.playSound(viewer, message);
@@ -261,7 +370,9 @@ public class FacetAudience<V> implements Audience, Closeable {
     } else {
       final Object message = this.entitySound.createForEmitter(sound, emitter);
       if (message == null) return;
+      final Facet.Connection<V> congestion = this.congestion();
       for (final V viewer : this.viewers) {
+        if (this.dropIfCongested(congestion, viewer)) continue;
         this.entitySound.playSound(viewer, message);
       }
     }
@@ -271,8 +382,14 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void playSound(final net.kyori.adventure.sound.@NotNull Sound original, final double x, final double y, final double z) {
     if (this.sound == null) return;
 
-    final Object position = this.sound.createPosition(x, y, z);
+    // viewers beyond the distance the sound fades out at would not hear it
+    final double range = CULL_SOUNDS ? SOUND_RANGE * Math.max(1, original.volume()) : Double.POSITIVE_INFINITY;
+    Object position = null;
+    final Facet.Connection<V> congestion = this.congestion();
     for (final V viewer : this.viewers) {
+      if (CULL_SOUNDS && !this.sound.isInRange(viewer, x, y, z, range)) continue;
+      if (this.dropIfCongested(congestion, viewer)) continue;
+      if (position == null) position = this.sound.createPosition(x, y, z);
       this.sound.playSound(viewer, original, position);
     }
   }
@@ -290,6 +407,17 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void openBook(final net.kyori.adventure.inventory.@NotNull Book original) {
     if (this.book == null) return;
 
+    final Object book = this.provider.book(original, this, this.book, this::createBook);
+    if (book == null) return;
+
+    for (final V viewer : this.viewers) {
+      this.book.openBook(viewer, book);
+    }
+  }
+
+  private @Nullable Object createBook(final net.kyori.adventure.inventory.@NotNull Book original) {
+    if (this.book == null) return null;
+
     final String title = this.toPlain(original.title());
     final String author = this.toPlain(original.author());
     final List<Object> pages = new LinkedList<>();
@@ -299,14 +427,9 @@ public class FacetAudience<V> implements Audience, Closeable {
         pages.add(page);
       }
     }
-    if (title == null || author == null || pages.isEmpty()) return;
+    if (title == null || author == null || pages.isEmpty()) return null;
 
-    final Object book = this.book.createBook(title, author, pages);
-    if (book == null) return;
-
-    for (final V viewer : this.viewers) {
-      this.book.openBook(viewer, book);
-    }
+    return this.book.createBook(title, author, pages);
   }
 
   private String toPlain(final Component comp) {
@@ -321,6 +444,22 @@ public class FacetAudience<V> implements Audience, Closeable {
   @Override
   public void showTitle(final net.kyori.adventure.title.@NotNull Title original) {
     if (this.title == null) return;
+    this.flushTitle();
+
+    final Object title = this.prepareTitle(original);
+    if (title != null) {
+      this.showPreparedTitle(title);
+    }
+  }
+
+  /**
+   * Renders and completes a title, to be shown later.
+   *
+   * @param original a title
+   * @return the completed title, or {@code null} if titles are not supported
+   */
+  @Nullable Object prepareTitle(final net.kyori.adventure.title.@NotNull Title original) {
+    if (this.title == null) return null;
 
     final Object mainTitle = this.createMessage(original.title(), this.title);
     final Object subTitle = this.createMessage(original.subtitle(), this.title);
@@ -335,8 +474,32 @@ public class FacetAudience<V> implements Audience, Closeable {
     }
     this.title.contributeSubtitle(collection, subTitle);
     this.title.contributeTitle(collection, mainTitle);
-    final Object title = this.title.completeTitle(collection);
-    if (title == null) return;
+    return this.title.completeTitle(collection);
+  }
+
+  /**
+   * Renders and completes a title part, to be shown later.
+   *
+   * @param part a title part
+   * @param value the value of the part
+   * @param <T> the type of the part
+   * @return the completed title, or {@code null} if titles are not supported
+   */
+  <T> @Nullable Object prepareTitlePart(final @NotNull TitlePart<T> part, final @NotNull T value) {
+    if (this.title == null) return null;
+
+    final Object collection = this.title.createTitleCollection();
+    this.contributeTitlePart(collection, part, value);
+    return this.title.completeTitle(collection);
+  }
+
+  /**
+   * Shows a title prepared by this audience.
+   *
+   * @param title a completed title
+   */
+  void showPreparedTitle(final @NotNull Object title) {
+    if (this.title == null) return;
 
     for (final V viewer : this.viewers) {
       this.title.showTitle(viewer, title);
@@ -348,7 +511,34 @@ public class FacetAudience<V> implements Audience, Closeable {
     if (this.title == null) return;
 
     Objects.requireNonNull(value, "value");
+    final Executor coalescer = COALESCE_TITLES ? this.provider.tickExecutor() : null;
+    if (coalescer != null) {
+      // parts sent within the same tick are merged into one title
+      final boolean first;
+      synchronized (this.pendingTitleLock) {
+        first = this.pendingTitle == null;
+        if (first) {
+          this.pendingTitle = this.title.createTitleCollection();
+        }
+        this.contributeTitlePart(this.pendingTitle, part, value);
+      }
+      if (first) {
+        try {
+          coalescer.execute(this::flushTitle);
+        } catch (final RejectedExecutionException error) {
+          // the platform is shutting down, so nothing would ever send the pending title
+          this.flushTitle();
+        }
+      }
+      return;
+    }
+
     final Object collection = this.title.createTitleCollection();
+    this.contributeTitlePart(collection, part, value);
+    this.completeTitle(collection);
+  }
+
+  private <T> void contributeTitlePart(final @NotNull Object collection, final @NotNull TitlePart<T> part, final @NotNull T value) {
     if (part == TitlePart.TITLE) {
       final @Nullable Object message = this.createMessage((Component) value, this.title);
       if (message != null) this.title.contributeTitle(collection, message);
@@ -366,18 +556,31 @@ public class FacetAudience<V> implements Audience, Closeable {
     } else {
       throw new IllegalArgumentException("Unknown TitlePart '" + part + "'");
     }
+  }
 
+  private void completeTitle(final @NotNull Object collection) {
     final Object title = this.title.completeTitle(collection);
-    if (title == null) return;
+    if (title != null) {
+      this.showPreparedTitle(title);
+    }
+  }
 
-    for (final V viewer : this.viewers) {
-      this.title.showTitle(viewer, title);
+  // sends any title parts waiting to be merged, so they are not sent out of order
+  private void flushTitle() {
+    final Object collection;
+    synchronized (this.pendingTitleLock) {
+      collection = this.pendingTitle;
+      this.pendingTitle = null;
+    }
+    if (collection != null) {
+      this.completeTitle(collection);
     }
   }
 
   @Override
   public void clearTitle() {
     if (this.title == null) return;
+    this.flushTitle();
 
     for (final V viewer : this.viewers) {
       this.title.clearTitle(viewer);
@@ -387,6 +590,7 @@ public class FacetAudience<V> implements Audience, Closeable {
   @Override
   public void resetTitle() {
     if (this.title == null) return;
+    this.flushTitle();
 
     for (final V viewer : this.viewers) {
       this.title.resetTitle(viewer);
@@ -397,14 +601,15 @@ public class FacetAudience<V> implements Audience, Closeable {
   public void showBossBar(final @NotNull BossBar bar) {
     if (this.bossBar == null || this.bossBars == null) return;
 
-    Facet.BossBar<V> listener;
+    FacetBossBarListener<V> listener;
     synchronized (this.bossBars) {
       listener = this.bossBars.get(bar);
       if (listener == null) {
         listener =
           new FacetBossBarListener<>(
             this.bossBar.createBossBar(this.viewers),
-            message -> this.provider.componentRenderer.render(message, this));
+            message -> this.provider.componentRenderer.render(message, this),
+            COALESCE_BOSS_BARS ? this.provider.tickExecutor() : null);
         this.bossBars.put(bar, listener);
       }
     }
@@ -436,13 +641,185 @@ public class FacetAudience<V> implements Audience, Closeable {
     }
   }
 
+  /**
+   * Renders and serializes an action bar, to be sent later.
+   *
+   * @param original an action bar
+   * @return the action bar message, or {@code null} if action bars are not supported
+   */
+  @Nullable Object prepareActionBar(final @NotNull Component original) {
+    return this.actionBar == null ? null : this.createMessage(original, this.actionBar);
+  }
+
+  /**
+   * Sends an action bar prepared by this audience.
+   *
+   * @param message an action bar message
+   */
+  void sendPreparedActionBar(final @NotNull Object message) {
+    if (this.actionBar == null) return;
+    this.sentActionBar = null;
+
+    for (final V viewer : this.viewers) {
+      this.actionBar.sendMessage(viewer, message);
+    }
+  }
+
+  /**
+   * Renders and serializes a system message, to be sent later.
+   *
+   * @param original a message
+   * @return the message, or {@code null} if chat is not supported
+   */
+  @Nullable Object prepareMessage(final @NotNull Component original) {
+    return this.chat == null ? null : this.createMessage(original, this.chat);
+  }
+
+  /**
+   * Sends a system message prepared by this audience.
+   *
+   * @param message a message
+   */
+  void sendPreparedMessage(final @NotNull Object message) {
+    if (this.chat == null) return;
+
+    for (final V viewer : this.viewers) {
+      this.chat.sendMessage(viewer, Identity.nil(), message, MessageType.SYSTEM);
+    }
+  }
+
+  /**
+   * Gets the event loop that writes to the connection of this audience.
+   *
+   * @return the event loop, or {@code null} if unknown or this audience has several viewers
+   */
+  @Nullable Executor eventLoop() {
+    final V viewer = this.viewer;
+    if (this.connection == null || viewer == null || this.viewers.size() != 1) return null;
+    return this.connection.eventLoop(viewer);
+  }
+
+  /**
+   * Gets the facet that prepares system messages.
+   *
+   * @return the facet, or {@code null} if not supported
+   */
+  @Nullable Object messageFacet() {
+    return this.chat;
+  }
+
+  /**
+   * Gets the facet that prepares titles, or action bars.
+   *
+   * <p>Prepared messages can be shared between audiences with the same facet and partition.</p>
+   *
+   * @param title whether to get the title facet, rather than the action bar facet
+   * @return the facet, or {@code null} if not supported
+   */
+  @Nullable Object preparingFacet(final boolean title) {
+    return title ? this.title : this.actionBar;
+  }
+
+  /**
+   * Shows a persistent action bar.
+   *
+   * @param slot the slot
+   * @param priority the priority of the slot
+   * @param message the action bar
+   * @param expiresAt when the action bar expires, in {@link System#nanoTime()}, or {@link Long#MAX_VALUE}
+   * @return if the audience has persistent action bars to tick
+   */
+  boolean showPersistentActionBar(final @NotNull Key slot, final int priority, final @NotNull Component message, final long expiresAt) {
+    if (this.actionBar == null) return false;
+    synchronized (this.persistentActionBars) {
+      this.persistentActionBars.put(slot, new PersistentActionBar(priority, message, expiresAt, this.persistentActionBarCount++));
+      return this.tickPersistentActionBars(System.nanoTime());
+    }
+  }
+
+  /**
+   * Hides a persistent action bar.
+   *
+   * @param slot the slot
+   */
+  void hidePersistentActionBar(final @NotNull Key slot) {
+    synchronized (this.persistentActionBars) {
+      if (this.persistentActionBars.remove(slot) != null) {
+        this.tickPersistentActionBars(System.nanoTime());
+      }
+    }
+  }
+
+  /**
+   * Ticks persistent action bars, and sends held back messages to viewers that are no longer congested.
+   *
+   * @param now the current time, in {@link System#nanoTime()}
+   * @return if the audience needs to be ticked again
+   */
+  boolean tick(final long now) {
+    final boolean persistent = this.tickPersistentActionBars(now);
+    return this.flushDeferred() | persistent;
+  }
+
+  /**
+   * Sends the persistent action bar with the highest priority, if it changed or is about to fade.
+   *
+   * @param now the current time, in {@link System#nanoTime()}
+   * @return if the audience still has persistent action bars
+   */
+  boolean tickPersistentActionBars(final long now) {
+    if (this.actionBar == null) return false;
+    synchronized (this.persistentActionBars) {
+      PersistentActionBar best = null;
+      for (final Iterator<PersistentActionBar> it = this.persistentActionBars.values().iterator(); it.hasNext(); ) {
+        final PersistentActionBar bar = it.next();
+        if (now - bar.expiresAt >= 0) {
+          it.remove();
+        } else if (best == null || bar.priority > best.priority || (bar.priority == best.priority && bar.order > best.order)) {
+          best = bar;
+        }
+      }
+      if (best == null) {
+        this.shownActionBar = null;
+        this.shownActionBarMessage = null;
+        return false;
+      }
+      if (best != this.shownActionBar || this.shownActionBarMessage == null) {
+        this.shownActionBar = best;
+        this.shownActionBarMessage = this.createMessage(best.message, this.actionBar);
+      } else if (now - this.shownActionBarAt < PERSISTENT_ACTION_BAR_NANOS) {
+        return true;
+      }
+      this.shownActionBarAt = now;
+      final Object message = this.shownActionBarMessage;
+      if (message != null) {
+        for (final V viewer : this.viewers) {
+          this.actionBar.sendMessage(viewer, message);
+        }
+      }
+      return true;
+    }
+  }
+
   @Override
   public void sendPlayerListHeader(final @NotNull Component header) {
     if (this.tabList != null) {
-      final Object headerFormatted = this.createMessage(header, this.tabList);
+      final Component rendered = this.render(header);
+      if (SEND_CACHE && rendered.equals(this.sentHeader)) return;
+      final Object headerFormatted = this.serialize(rendered, this.tabList);
       if (headerFormatted == null) return;
+      if (SEND_CACHE) this.sentHeader = rendered;
+      this.header = header;
+      this.headerMessage = headerFormatted;
+      final Object footerFormatted = this.footerMessage();
+      final Facet.Connection<V> congestion = this.congestion();
       for (final V viewer : this.viewers) {
-        this.tabList.send(viewer, headerFormatted, null);
+        if (this.isCongested(congestion, viewer)) {
+          this.defer(viewer, DEFERRED_HEADER, headerFormatted);
+          continue;
+        }
+        this.supersede(viewer, DEFERRED_HEADER, headerFormatted);
+        this.tabList.send(viewer, headerFormatted, footerFormatted);
       }
     }
   }
@@ -450,10 +827,22 @@ public class FacetAudience<V> implements Audience, Closeable {
   @Override
   public void sendPlayerListFooter(final @NotNull Component footer) {
     if (this.tabList != null) {
-      final Object footerFormatted = this.createMessage(footer, this.tabList);
+      final Component rendered = this.render(footer);
+      if (SEND_CACHE && rendered.equals(this.sentFooter)) return;
+      final Object footerFormatted = this.serialize(rendered, this.tabList);
       if (footerFormatted == null) return;
+      if (SEND_CACHE) this.sentFooter = rendered;
+      this.footer = footer;
+      this.footerMessage = footerFormatted;
+      final Object headerFormatted = this.headerMessage();
+      final Facet.Connection<V> congestion = this.congestion();
       for (final V viewer : this.viewers) {
-        this.tabList.send(viewer, null, footerFormatted);
+        if (this.isCongested(congestion, viewer)) {
+          this.defer(viewer, DEFERRED_FOOTER, footerFormatted);
+          continue;
+        }
+        this.supersede(viewer, DEFERRED_FOOTER, footerFormatted);
+        this.tabList.send(viewer, headerFormatted, footerFormatted);
       }
     }
   }
@@ -461,11 +850,34 @@ public class FacetAudience<V> implements Audience, Closeable {
   @Override
   public void sendPlayerListHeaderAndFooter(final @NotNull Component header, final @NotNull Component footer) {
     if (this.tabList != null) {
-      final Object headerFormatted = this.createMessage(header, this.tabList);
-      final Object footerFormatted = this.createMessage(footer, this.tabList);
-      if (headerFormatted == null || footerFormatted == null) return;
+      final Component renderedHeader = this.render(header);
+      final Component renderedFooter = this.render(footer);
+      final boolean sendHeader = !SEND_CACHE || !renderedHeader.equals(this.sentHeader);
+      final boolean sendFooter = !SEND_CACHE || !renderedFooter.equals(this.sentFooter);
+      if (!sendHeader && !sendFooter) return;
+
+      // only the half that changed is serialized again, the other is sent as it was last
+      final Object headerFormatted = sendHeader ? this.serialize(renderedHeader, this.tabList) : this.headerMessage();
+      final Object footerFormatted = sendFooter ? this.serialize(renderedFooter, this.tabList) : this.footerMessage();
+      if ((sendHeader && headerFormatted == null) || (sendFooter && footerFormatted == null)) return;
+      if (SEND_CACHE) {
+        this.sentHeader = renderedHeader;
+        this.sentFooter = renderedFooter;
+      }
+      this.header = header;
+      this.footer = footer;
+      this.headerMessage = headerFormatted;
+      this.footerMessage = footerFormatted;
 
+      final Facet.Connection<V> congestion = this.congestion();
       for (final V viewer : this.viewers) {
+        if (this.isCongested(congestion, viewer)) {
+          this.defer(viewer, DEFERRED_HEADER, headerFormatted);
+          this.defer(viewer, DEFERRED_FOOTER, footerFormatted);
+          continue;
+        }
+        this.supersede(viewer, DEFERRED_HEADER, headerFormatted);
+        this.supersede(viewer, DEFERRED_FOOTER, footerFormatted);
         this.tabList.send(viewer, headerFormatted, footerFormatted);
       }
     }
@@ -502,6 +914,12 @@ public class FacetAudience<V> implements Audience, Closeable {
 
   @Override
   public void close() {
+    synchronized (this.persistentActionBars) {
+      this.persistentActionBars.clear();
+      this.shownActionBar = null;
+      this.shownActionBarMessage = null;
+    }
+    this.deferred.clear();
     if (this.bossBars != null) {
       for (final BossBar bar : new LinkedList<>(this.bossBars.keySet())) {
         this.hideBossBar(bar);
@@ -515,9 +933,150 @@ public class FacetAudience<V> implements Audience, Closeable {
     this.viewers.clear();
   }
 
+  /**
+   * Gets the connection facet used to check for congestion, if cosmetic messages can be held back.
+   *
+   * <p>This is looked up once per send, rather than for every viewer.</p>
+   *
+   * @return the connection facet, or {@code null} if nothing should be held back
+   */
+  private Facet.@Nullable Connection<V> congestion() {
+    return DELIVERY_POLICY && this.connection != null && this.provider.tickExecutor() != null ? this.connection : null;
+  }
+
+  /**
+   * Gets whether cosmetic messages to a viewer should be held back, because its connection is congested.
+   *
+   * <p>Chat, titles and books are always sent. Action bars and tab list changes are held back,
+   * with newer messages replacing older ones of the same kind, and sounds are dropped.</p>
+   *
+   * @param congestion the connection facet from {@link #congestion()}
+   * @param viewer a viewer
+   * @return if the viewer is congested
+   */
+  private boolean isCongested(final Facet.@Nullable Connection<V> congestion, final @NotNull V viewer) {
+    return congestion != null && !congestion.isWritable(viewer);
+  }
+
+  private boolean dropIfCongested(final Facet.@Nullable Connection<V> congestion, final @NotNull V viewer) {
+    if (!this.isCongested(congestion, viewer)) return false;
+    this.provider.droppedMessages.increment();
+    return true;
+  }
+
+  private void defer(final @NotNull V viewer, final int kind, final @Nullable Object message) {
+    if (message == null) return;
+
+    final Object[] messages = this.deferred.computeIfAbsent(viewer, key -> new Object[3]);
+    synchronized (messages) {
+      if (messages[kind] != null) {
+        this.provider.droppedMessages.increment();
+      }
+      messages[kind] = message;
+    }
+    this.provider.deferredMessages.increment();
+    this.provider.scheduleTick(this);
+  }
+
+  // a newer message was sent, so an older held back one must not be sent after it
+  private void supersede(final @NotNull V viewer, final int kind, final @Nullable Object message) {
+    if (message == null || this.deferred.isEmpty()) return;
+
+    final Object[] messages = this.deferred.get(viewer);
+    if (messages == null) return;
+    synchronized (messages) {
+      if (messages[kind] != null) {
+        messages[kind] = null;
+        this.provider.droppedMessages.increment();
+      }
+    }
+  }
+
+  /**
+   * Sends held back messages to viewers that are no longer congested.
+   *
+   * @return if messages are still held back
+   */
+  private boolean flushDeferred() {
+    if (this.deferred.isEmpty()) return false;
+
+    for (final Iterator<Map.Entry<V, Object[]>> it = this.deferred.entrySet().iterator(); it.hasNext(); ) {
+      final Map.Entry<V, Object[]> entry = it.next();
+      final V viewer = entry.getKey();
+      if (this.connection != null && this.viewers.contains(viewer) && !this.connection.isWritable(viewer)) continue;
+
+      it.remove();
+      final Object[] messages = entry.getValue();
+      final Object actionBar;
+      final Object header;
+      final Object footer;
+      synchronized (messages) {
+        actionBar = messages[DEFERRED_ACTION_BAR];
+        header = messages[DEFERRED_HEADER];
+        footer = messages[DEFERRED_FOOTER];
+      }
+      if (!this.viewers.contains(viewer)) continue;
+      if (actionBar != null && this.actionBar != null) {
+        this.actionBar.sendMessage(viewer, actionBar);
+      }
+      if ((header != null || footer != null) && this.tabList != null) {
+        // a half that was not held back is sent as it was last
+        this.tabList.send(viewer, header != null ? header : this.headerMessage(), footer != null ? footer : this.footerMessage());
+      }
+    }
+    return !this.deferred.isEmpty();
+  }
+
+  private void clearSent() {
+    this.sentHeader = null;
+    this.sentFooter = null;
+    this.sentActionBar = null;
+    this.headerMessage = null;
+    this.footerMessage = null;
+  }
+
+  private @Nullable Object headerMessage() {
+    Object message = this.headerMessage;
+    final Component header = this.header;
+    if (message == null && header != null && this.tabList != null) {
+      this.headerMessage = message = this.createMessage(header, this.tabList);
+    }
+    return message;
+  }
+
+  private @Nullable Object footerMessage() {
+    Object message = this.footerMessage;
+    final Component footer = this.footer;
+    if (message == null && footer != null && this.tabList != null) {
+      this.footerMessage = message = this.createMessage(footer, this.tabList);
+    }
+    return message;
+  }
+
   private @Nullable Object createMessage(final @NotNull Component original, final Facet.@NotNull Message<V, Object> facet) {
-    final Component message = this.provider.componentRenderer.render(original, this);
+    return this.serialize(this.render(original), facet);
+  }
+
+  private @NotNull Component render(final @NotNull Component original) {
+    return this.provider.componentRenderer.render(original, this);
+  }
+
+  private @Nullable Object serialize(final @NotNull Component message, final Facet.@NotNull Message<V, Object> facet) {
     final V viewer = this.viewer;
     return viewer == null ? null : facet.createMessage(viewer, message);
   }
+
+  private static final class PersistentActionBar {
+    private final int priority;
+    private final Component message;
+    private final long expiresAt;
+    private final long order; // later action bars win ties
+
+    PersistentActionBar(final int priority, final @NotNull Component message, final long expiresAt, final long order) {
+      this.priority = priority;
+      this.message = message;
+      this.expiresAt = expiresAt;
+      this.order = order;
+    }
+  }
 }
@@ -23,16 +23,33 @@
  */
 package net.kyori.adventure.platform.facet;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -44,7 +61,9 @@ import net.kyori.adventure.permission.PermissionChecker;
 import net.kyori.adventure.platform.AudienceProvider;
 import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
+import net.kyori.adventure.title.Title;
 import net.kyori.adventure.util.TriState;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -65,18 +84,53 @@ import static java.util.Objects.requireNonNull;
 public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>>
   implements AudienceProvider, ForwardingAudience {
   protected static final Locale DEFAULT_LOCALE = Locale.US;
+  protected static final Function<Pointered, ?> DEFAULT_PARTITION = ptr -> ptr.getOrDefault(Identity.LOCALE, DEFAULT_LOCALE);
+  private static final int BOOK_CACHE_SIZE = Knob.getInt("book-cache-size", 64);
+  // how many viewers, and how long, each tick may spend delivering broadcasts
+  private static final int BROADCAST_SLICE_VIEWERS = Math.max(1, Knob.getInt("broadcast-slice-viewers", 250));
+  private static final long BROADCAST_SLICE_NANOS = TimeUnit.MICROSECONDS.toNanos(Knob.getInt("broadcast-slice-micros", 2000));
+  private static final boolean BROADCAST_EVENT_LOOPS = Knob.isEnabled("broadcast-event-loops", false);
   protected final ComponentRenderer<Pointered> componentRenderer;
+  protected final Function<Pointered, ?> partition;
+  protected final @Nullable Executor renderExecutor;
 
   private final Audience console;
   private final Audience player;
   protected final Map<V, A> viewers;
   private final Map<UUID, A> players;
   private final Set<A> consoles;
+  private final Map<List<Object>, Object> books;
+  private final boolean cacheBooks;
+  private final Set<FacetAudience<?>> tickingAudiences = ConcurrentHashMap.newKeySet();
+  private final Queue<Broadcast> broadcasts = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean ticking = new AtomicBoolean();
+  final LongAdder deferredMessages = new LongAdder();
+  final LongAdder droppedMessages = new LongAdder();
+  private final FacetTimeline.Wheel timelines = new FacetTimeline.Wheel();
+  private final AtomicBoolean timelinesTicking = new AtomicBoolean();
   private A empty;
   private volatile boolean closed;
 
   protected FacetAudienceProvider(final @NotNull ComponentRenderer<Pointered> componentRenderer) {
+    this(componentRenderer, DEFAULT_PARTITION);
+  }
+
+  protected FacetAudienceProvider(final @NotNull ComponentRenderer<Pointered> componentRenderer, final @NotNull Function<Pointered, ?> partition) {
+    this(componentRenderer, partition, null);
+  }
+
+  protected FacetAudienceProvider(final @NotNull ComponentRenderer<Pointered> componentRenderer, final @NotNull Function<Pointered, ?> partition, final @Nullable Executor renderExecutor) {
     this.componentRenderer = requireNonNull(componentRenderer, "component renderer");
+    this.partition = requireNonNull(partition, "partition");
+    this.renderExecutor = renderExecutor;
+    // the default partition only knows the locale, which does not say enough about what a renderer may depend on
+    this.cacheBooks = BOOK_CACHE_SIZE > 0 && partition != DEFAULT_PARTITION;
+    this.books = Collections.synchronizedMap(new LinkedHashMap<List<Object>, Object>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<List<Object>, Object> eldest) {
+        return this.size() > BOOK_CACHE_SIZE;
+      }
+    });
     this.viewers = new ConcurrentHashMap<>();
     this.players = new ConcurrentHashMap<>();
     this.consoles = new CopyOnWriteArraySet<>();
@@ -229,9 +283,390 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>>
     return this.filterPointers(pointers -> serverName.equals(pointers.getOrDefault(FacetPointers.SERVER, null)));
   }
 
+  /**
+   * Gets a book built by a facet, re-using a recently built one from the same partition.
+   *
+   * <p>The renderer only depends on the partition of an audience, so books built for
+   * one audience can be opened for any other audience in the same partition.</p>
+   *
+   * <p>Books are only re-used when a partition was explicitly given to this provider.</p>
+   *
+   * @param book a book
+   * @param audience the audience opening the book
+   * @param facet the facet building the book
+   * @param builder a function that builds the book
+   * @return a built book, or {@code null} if it could not be built
+   */
+  @Nullable Object book(final net.kyori.adventure.inventory.@NotNull Book book, final @NotNull Pointered audience, final @NotNull Facet.Book<V, ?, ?> facet, final @NotNull Function<net.kyori.adventure.inventory.Book, Object> builder) {
+    if (!this.cacheBooks) return builder.apply(book);
+
+    final List<Object> key = Arrays.asList(book, this.partition.apply(audience), facet);
+    Object built = this.books.get(key);
+    if (built == null) {
+      built = builder.apply(book);
+      if (built != null) {
+        this.books.put(key, built);
+      }
+    }
+    return built;
+  }
+
+  /**
+   * Gets an executor that runs tasks on the next tick.
+   *
+   * <p>When boss bar coalescing is enabled, changes to a boss bar are sent together once this executor runs.</p>
+   *
+   * @return an executor, or {@code null} if changes should always be sent immediately
+   * @since 4.5.0
+   */
+  protected @Nullable Executor tickExecutor() {
+    return null;
+  }
+
+  /**
+   * Gets an executor that runs tasks where the platform allows sending messages.
+   *
+   * <p>Messages rendered on the {@link #renderExecutor render executor} are sent from here.</p>
+   *
+   * @return an executor, or {@code null} if messages can only be sent on the calling thread
+   * @since 4.5.0
+   */
+  protected @Nullable Executor sendExecutor() {
+    return this.tickExecutor();
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Void> sendMessageAsync(final @NotNull Audience audience, final @NotNull Component message) {
+    requireNonNull(message, "message");
+    return this.sendAsync(audience, other -> other.sendMessage(message), FacetAudience::messageFacet, target -> target.prepareMessage(message), FacetAudience::sendPreparedMessage);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Void> sendActionBarAsync(final @NotNull Audience audience, final @NotNull Component message) {
+    requireNonNull(message, "message");
+    return this.sendAsync(audience, other -> other.sendActionBar(message), target -> target.preparingFacet(false), target -> target.prepareActionBar(message), FacetAudience::sendPreparedActionBar);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Void> showTitleAsync(final @NotNull Audience audience, final @NotNull Title title) {
+    requireNonNull(title, "title");
+    return this.sendAsync(audience, other -> other.showTitle(title), target -> target.preparingFacet(true), target -> target.prepareTitle(title), FacetAudience::showPreparedTitle);
+  }
+
+  private @NotNull CompletableFuture<Void> sendAsync(final @NotNull Audience audience, final @NotNull Consumer<Audience> fallback, final @NotNull Function<FacetAudience<?>, Object> facet, final @NotNull Function<FacetAudience<?>, Object> preparer, final @NotNull BiConsumer<FacetAudience<?>, Object> sender) {
+    final Executor renderExecutor = this.renderExecutor;
+    final Executor sendExecutor = this.sendExecutor();
+    if (renderExecutor == null || sendExecutor == null) {
+      fallback.accept(audience);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final List<FacetAudience<?>> audiences = new ArrayList<>();
+    final List<Audience> others = new ArrayList<>();
+    this.forEachAudience(audience, audiences::add, others::add);
+    return CompletableFuture.supplyAsync(() -> this.prepare(audiences, facet, preparer), renderExecutor)
+      .handleAsync((messages, error) -> {
+        try {
+          if (messages != null) {
+            for (int i = 0; i < messages.length; i++) {
+              if (messages[i] != null) {
+                sender.accept(audiences.get(i), messages[i]);
+              }
+            }
+          }
+        } finally {
+          // audiences of other providers do not depend on this rendering
+          others.forEach(fallback);
+        }
+        if (error != null) {
+          throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+        }
+        return null;
+      }, sendExecutor);
+  }
+
+  @Override
+  public void showPersistentActionBar(final @NotNull Audience audience, final @NotNull Key slot, final int priority, final @NotNull Component message, final @Nullable Duration ttl) {
+    requireNonNull(slot, "slot");
+    requireNonNull(message, "message");
+    final Executor executor = this.tickExecutor();
+    if (executor == null) {
+      // no timer to resend on
+      audience.sendActionBar(message);
+      return;
+    }
+    final long expiresAt = ttl == null ? Long.MAX_VALUE : System.nanoTime() + ttl.toNanos();
+    this.forEachAudience(audience, facetAudience -> {
+      if (facetAudience.showPersistentActionBar(slot, priority, message, expiresAt)) {
+        this.scheduleTick(facetAudience);
+      }
+    });
+  }
+
+  @Override
+  public void hidePersistentActionBar(final @NotNull Audience audience, final @NotNull Key slot) {
+    requireNonNull(slot, "slot");
+    this.forEachAudience(audience, facetAudience -> facetAudience.hidePersistentActionBar(slot));
+  }
+
+  /**
+   * Plays a timeline to an audience.
+   *
+   * <p>Every frame is rendered and serialized when the timeline is played, once for each
+   * partition of the audience. Frames at tick zero are played immediately.</p>
+   *
+   * <p>If this provider cannot run tasks on the next tick, only the frames at tick zero are played.</p>
+   *
+   * @param audience an audience
+   * @param timeline a timeline
+   * @return a playback, which can be cancelled
+   * @since 4.5.0
+   */
+  public FacetTimeline.@NotNull Playback play(final @NotNull Audience audience, final @NotNull FacetTimeline timeline) {
+    requireNonNull(timeline, "timeline");
+    final List<FacetAudience<?>> audiences = new ArrayList<>();
+    this.forEachAudience(audience, audiences::add);
+
+    final List<FacetTimeline.Frame> frames = timeline.frames;
+    final Object[][] prepared = new Object[frames.size()][];
+    for (int i = 0; i < frames.size(); i++) {
+      final FacetTimeline.Frame frame = frames.get(i);
+      if (frame.shown) {
+        prepared[i] = this.prepare(audiences, target -> target.preparingFacet(frame.title), frame::prepare);
+      }
+    }
+
+    final FacetTimeline.Run run = new FacetTimeline.Run(frames, audiences, prepared);
+    if (frames.isEmpty()) {
+      run.cancel();
+      return run;
+    }
+    final int first = frames.get(0).tick;
+    final int delay = first == 0 ? run.advance() : first;
+    if (delay > 0) {
+      final Executor executor = this.tickExecutor();
+      if (executor == null || this.closed) {
+        run.cancel();
+      } else {
+        this.timelines.schedule(run, delay);
+        if (this.timelinesTicking.compareAndSet(false, true)) {
+          executor.execute(this::tickTimelines);
+        }
+      }
+    }
+    return run;
+  }
+
+  /**
+   * Sends a system message to an audience, spread over several ticks.
+   *
+   * <p>The message is rendered and serialized once per partition, then sent to as many viewers
+   * as the {@code broadcast-slice-viewers} and {@code broadcast-slice-micros} knobs allow each tick,
+   * starting with the current one.</p>
+   *
+   * <p>When the {@code broadcast-event-loops} knob is enabled, viewers are instead grouped by the
+   * event loop of their connection, and each event loop is given a single task that sends to its
+   * share of viewers. Only viewers whose event loop is unknown are sent to a slice at a time.</p>
+   *
+   * <p>If this provider cannot run tasks on the next tick, the message is sent to every viewer immediately.</p>
+   *
+   * @param audience an audience
+   * @param message a message
+   * @return a future completed once every viewer was sent the message, or completed exceptionally if the provider is closed first
+   * @since 4.5.0
+   */
+  public @NotNull CompletableFuture<Void> broadcast(final @NotNull Audience audience, final @NotNull Component message) {
+    requireNonNull(message, "message");
+    final List<FacetAudience<?>> audiences = new ArrayList<>();
+    this.forEachAudience(audience, audiences::add, other -> other.sendMessage(message));
+
+    final Object[] messages = this.prepare(audiences, FacetAudience::messageFacet, target -> target.prepareMessage(message));
+    final Broadcast local = new Broadcast();
+    final Map<Executor, Broadcast> loops = BROADCAST_EVENT_LOOPS ? new IdentityHashMap<>() : null;
+    for (int i = 0; i < messages.length; i++) {
+      final FacetAudience<?> target = audiences.get(i);
+      final Executor loop = loops == null ? null : target.eventLoop();
+      (loop == null ? local : loops.computeIfAbsent(loop, key -> new Broadcast())).add(target, messages[i]);
+    }
+
+    if (loops != null) {
+      for (final Map.Entry<Executor, Broadcast> entry : loops.entrySet()) {
+        final Broadcast part = entry.getValue();
+        try {
+          entry.getKey().execute(() -> part.deliver(Integer.MAX_VALUE, System.nanoTime(), Long.MAX_VALUE));
+        } catch (final RejectedExecutionException error) {
+          // the event loop is shutting down, so the connection is closing anyway
+          part.deliver(Integer.MAX_VALUE, System.nanoTime(), Long.MAX_VALUE);
+        }
+      }
+    }
+
+    final Executor executor = this.tickExecutor();
+    if (executor == null || this.closed) {
+      local.deliver(Integer.MAX_VALUE, System.nanoTime(), Long.MAX_VALUE);
+    } else if (!local.deliver(BROADCAST_SLICE_VIEWERS, System.nanoTime(), BROADCAST_SLICE_NANOS)) {
+      this.broadcasts.add(local);
+      this.startTicking(executor);
+    }
+
+    if (loops == null || loops.isEmpty()) return local.future;
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(loops.size() + 1);
+    futures.add(local.future);
+    for (final Broadcast part : loops.values()) {
+      futures.add(part.future);
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Prepares a message for each audience, once per partition and facet.
+   *
+   * <p>The renderer only depends on the partition of an audience, so messages prepared for
+   * one audience can be sent to any other audience in the same partition.</p>
+   *
+   * @param audiences the audiences
+   * @param facet a function that gets the facet preparing the message for an audience
+   * @param preparer a function that prepares the message for an audience
+   * @return the prepared messages, by audience
+   */
+  private @Nullable Object @NotNull [] prepare(final @NotNull List<FacetAudience<?>> audiences, final @NotNull Function<FacetAudience<?>, Object> facet, final @NotNull Function<FacetAudience<?>, Object> preparer) {
+    final Map<List<Object>, Object> partitions = new HashMap<>();
+    final Object[] messages = new Object[audiences.size()];
+    for (int i = 0; i < messages.length; i++) {
+      final FacetAudience<?> target = audiences.get(i);
+      final Object preparing = facet.apply(target);
+      if (preparing == null) continue;
+
+      final List<Object> key = Arrays.asList(this.partition.apply(target), preparing);
+      Object message = partitions.get(key);
+      if (message == null && !partitions.containsKey(key)) {
+        message = preparer.apply(target);
+        partitions.put(key, message);
+      }
+      messages[i] = message;
+    }
+    return messages;
+  }
+
+  private void forEachAudience(final @NotNull Audience audience, final @NotNull Consumer<FacetAudience<?>> action) {
+    this.forEachAudience(audience, action, other -> {});
+  }
+
+  private void forEachAudience(final @NotNull Audience audience, final @NotNull Consumer<FacetAudience<?>> action, final @NotNull Consumer<Audience> other) {
+    if (audience instanceof FacetAudience<?> && ((FacetAudience<?>) audience).provider == this) {
+      action.accept((FacetAudience<?>) audience);
+    } else if (audience instanceof ForwardingAudience) {
+      for (final Audience child : ((ForwardingAudience) audience).audiences()) {
+        this.forEachAudience(child, action, other);
+      }
+    } else {
+      other.accept(audience);
+    }
+  }
+
+  /**
+   * Ticks an audience until it has no persistent action bars or held back messages left.
+   *
+   * @param audience an audience
+   * @return if the audience will be ticked, or {@code false} if this provider cannot run tasks on the next tick
+   */
+  boolean scheduleTick(final @NotNull FacetAudience<?> audience) {
+    final Executor executor = this.tickExecutor();
+    if (this.closed || executor == null) return false;
+
+    this.tickingAudiences.add(audience);
+    this.startTicking(executor);
+    return true;
+  }
+
+  private void startTicking(final @NotNull Executor executor) {
+    if (this.ticking.compareAndSet(false, true)) {
+      executor.execute(this::tickAudiences);
+    }
+  }
+
+  // runs every tick while there are audiences to tick or broadcasts to deliver
+  private void tickAudiences() {
+    final Executor executor = this.tickExecutor();
+    if (!this.closed && executor != null) {
+      final long now = System.nanoTime();
+      this.tickingAudiences.removeIf(audience -> !audience.tick(now));
+      this.tickBroadcasts(now);
+      if (!this.tickingAudiences.isEmpty() || !this.broadcasts.isEmpty()) {
+        executor.execute(this::tickAudiences);
+        return;
+      }
+    }
+    this.ticking.set(false);
+    // an audience may have been added after the check
+    if (!this.closed && executor != null && (!this.tickingAudiences.isEmpty() || !this.broadcasts.isEmpty())) {
+      this.startTicking(executor);
+    }
+  }
+
+  // delivers broadcasts in order, until this tick's budget is spent
+  private void tickBroadcasts(final long now) {
+    int budget = BROADCAST_SLICE_VIEWERS;
+    Broadcast broadcast;
+    while (budget > 0 && (broadcast = this.broadcasts.peek()) != null) {
+      final int start = broadcast.next;
+      if (broadcast.deliver(budget, now, BROADCAST_SLICE_NANOS)) {
+        this.broadcasts.poll();
+      }
+      budget -= broadcast.next - start;
+      if (System.nanoTime() - now >= BROADCAST_SLICE_NANOS) break;
+    }
+  }
+
+  /**
+   * Gets how many cosmetic messages were held back from viewers with congested connections.
+   *
+   * @return the number of held back messages
+   * @since 4.5.0
+   */
+  public long deferredMessages() {
+    return this.deferredMessages.sum();
+  }
+
+  /**
+   * Gets how many cosmetic messages were dropped for viewers with congested connections.
+   *
+   * <p>This includes held back messages that were replaced by newer ones before they could be sent.</p>
+   *
+   * @return the number of dropped messages
+   * @since 4.5.0
+   */
+  public long droppedMessages() {
+    return this.droppedMessages.sum();
+  }
+
+  // runs every tick while there are timelines playing
+  private void tickTimelines() {
+    final Executor executor = this.tickExecutor();
+    if (!this.closed && executor != null) {
+      if (this.timelines.tick()) {
+        executor.execute(this::tickTimelines);
+        return;
+      }
+    } else {
+      this.timelines.clear();
+    }
+    this.timelinesTicking.set(false);
+    // a timeline may have been played after the check
+    if (!this.closed && executor != null && this.timelines.hasIncoming() && this.timelinesTicking.compareAndSet(false, true)) {
+      executor.execute(this::tickTimelines);
+    }
+  }
+
   @Override
   public void close() {
     this.closed = true;
+    this.tickingAudiences.clear();
+    Broadcast broadcast;
+    while ((broadcast = this.broadcasts.poll()) != null) {
+      broadcast.future.cancel(false);
+    }
+    this.books.clear();
     for (final V viewer : this.viewers.keySet()) {
       this.removeViewer(viewer);
     }
@@ -308,4 +743,44 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>>
       }
     };
   }
+
+  // a message being sent to audiences, a slice at a time
+  private static final class Broadcast {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    private final List<FacetAudience<?>> audiences = new ArrayList<>();
+    private final List<Object> messages = new ArrayList<>(); // by audience
+    int next;
+
+    void add(final @NotNull FacetAudience<?> audience, final @Nullable Object message) {
+      if (message != null) {
+        this.audiences.add(audience);
+        this.messages.add(message);
+      }
+    }
+
+    /**
+     * Sends the message to the next audiences.
+     *
+     * @param audiences the most audiences to send to
+     * @param startedAt when the slice started, in {@link System#nanoTime()}
+     * @param budget how long the slice may take, in nanoseconds
+     * @return if every audience was sent the message
+     */
+    boolean deliver(final int audiences, final long startedAt, final long budget) {
+      final int end = (int) Math.min(this.messages.size(), (long) this.next + audiences);
+      while (this.next < end) {
+        try {
+          this.audiences.get(this.next).sendPreparedMessage(this.messages.get(this.next));
+        } catch (final Throwable error) {
+          Knob.logError(error, "Failed to broadcast message to %s", this.audiences.get(this.next));
+        }
+        this.next++;
+        if (System.nanoTime() - startedAt >= budget) break;
+      }
+
+      if (this.next < this.messages.size()) return false;
+      this.future.complete(null);
+      return true;
+    }
+  }
 }
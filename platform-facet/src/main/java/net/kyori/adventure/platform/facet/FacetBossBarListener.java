@@ -23,50 +23,175 @@
  */
 package net.kyori.adventure.platform.facet;
 
+import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 class FacetBossBarListener<V> implements Facet.BossBar<V> {
   private final Facet.BossBar<V> facet;
   private final Function<Component, Component> translator;
+  private final @Nullable Executor coalescer;
+  private volatile @Nullable Component rendered; // the last name sent to the facet
+  private @Nullable Pending pending; // guarded by this
+  private boolean closed; // guarded by this
 
   FacetBossBarListener(final Facet.@NotNull BossBar<V> facet, final @NotNull Function<Component, Component> translator) {
+    this(facet, translator, null);
+  }
+
+  /**
+   * Creates a boss bar listener.
+   *
+   * <p>When a coalescer is given, changes are marked as pending and sent once it runs,
+   * as one update for each changed property. Intermediate values are never sent.</p>
+   *
+   * @param facet the boss bar facet
+   * @param translator the name translator
+   * @param coalescer an executor that runs once per tick, or {@code null} to send changes immediately
+   */
+  FacetBossBarListener(final Facet.@NotNull BossBar<V> facet, final @NotNull Function<Component, Component> translator, final @Nullable Executor coalescer) {
     this.facet = facet;
     this.translator = translator;
+    this.coalescer = coalescer;
   }
 
   @Override
   public void bossBarInitialized(final @NotNull BossBar bar) {
     this.facet.bossBarInitialized(bar);
-    this.bossBarNameChanged(bar, bar.name(), bar.name()); // Redo name change with translation
+    this.sendName(bar, bar.name(), bar.name()); // Redo name change with translation, even when changes are coalesced
   }
 
   @Override
   public void bossBarNameChanged(final @NotNull BossBar bar, final @NotNull Component oldName, final @NotNull Component newName) {
-    this.facet.bossBarNameChanged(bar, oldName, this.translator.apply(newName));
+    final Pending pending = this.pending(bar);
+    if (pending == null) {
+      this.sendName(bar, oldName, newName);
+    } else if (pending.name == null) {
+      pending.name = oldName;
+    }
   }
 
   @Override
   public void bossBarProgressChanged(final @NotNull BossBar bar, final float oldPercent, final float newPercent) {
-    this.facet.bossBarProgressChanged(bar, oldPercent, newPercent);
+    final Pending pending = this.pending(bar);
+    if (pending == null) {
+      this.facet.bossBarProgressChanged(bar, oldPercent, newPercent);
+    } else if (Float.isNaN(pending.progress)) {
+      pending.progress = oldPercent;
+    }
   }
 
   @Override
   public void bossBarColorChanged(final @NotNull BossBar bar, final BossBar.@NotNull Color oldColor, final BossBar.@NotNull Color newColor) {
-    this.facet.bossBarColorChanged(bar, oldColor, newColor);
+    final Pending pending = this.pending(bar);
+    if (pending == null) {
+      this.facet.bossBarColorChanged(bar, oldColor, newColor);
+    } else if (pending.color == null) {
+      pending.color = oldColor;
+    }
   }
 
   @Override
   public void bossBarOverlayChanged(final @NotNull BossBar bar, final BossBar.@NotNull Overlay oldOverlay, final BossBar.@NotNull Overlay newOverlay) {
-    this.facet.bossBarOverlayChanged(bar, oldOverlay, newOverlay);
+    final Pending pending = this.pending(bar);
+    if (pending == null) {
+      this.facet.bossBarOverlayChanged(bar, oldOverlay, newOverlay);
+    } else if (pending.overlay == null) {
+      pending.overlay = oldOverlay;
+    }
   }
 
   @Override
   public void bossBarFlagsChanged(final @NotNull BossBar bar, final @NotNull Set<BossBar.Flag> flagsAdded, final @NotNull Set<BossBar.Flag> flagsRemoved) {
-    this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
+    final Pending pending = this.pending(bar);
+    if (pending == null) {
+      this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
+    } else if (pending.flags == null) {
+      final Set<BossBar.Flag> oldFlags = EnumSet.noneOf(BossBar.Flag.class);
+      oldFlags.addAll(bar.flags());
+      oldFlags.removeAll(flagsAdded);
+      oldFlags.addAll(flagsRemoved);
+      pending.flags = oldFlags;
+    }
+  }
+
+  /**
+   * Renders the name again, after the viewer's context has changed.
+   *
+   * <p>The name is only sent when it renders differently than it last did.</p>
+   *
+   * @param bar the boss bar
+   */
+  void bossBarNameRefreshed(final @NotNull BossBar bar) {
+    final Component rendered = this.translator.apply(bar.name());
+    if (!rendered.equals(this.rendered)) {
+      this.rendered = rendered;
+      this.facet.bossBarNameChanged(bar, bar.name(), rendered);
+    }
+  }
+
+  private void sendName(final @NotNull BossBar bar, final @NotNull Component oldName, final @NotNull Component newName) {
+    final Component rendered = this.translator.apply(newName);
+    this.rendered = rendered;
+    this.facet.bossBarNameChanged(bar, oldName, rendered);
+  }
+
+  // gets the pending changes to add to, or null to send the change now
+  private @Nullable Pending pending(final @NotNull BossBar bar) {
+    if (this.coalescer == null) return null;
+    synchronized (this) {
+      if (this.closed) return null;
+      if (this.pending == null) {
+        this.pending = new Pending();
+        try {
+          this.coalescer.execute(() -> this.flush(bar));
+        } catch (final RejectedExecutionException error) {
+          // the platform is shutting down, so nothing would ever send the pending changes
+          this.pending = null;
+          return null;
+        }
+      }
+      return this.pending;
+    }
+  }
+
+  private void flush(final @NotNull BossBar bar) {
+    final Pending pending;
+    synchronized (this) {
+      pending = this.pending;
+      this.pending = null;
+      if (pending == null || this.closed) return;
+    }
+
+    if (pending.name != null && !pending.name.equals(bar.name())) {
+      this.sendName(bar, pending.name, bar.name());
+    }
+    if (!Float.isNaN(pending.progress) && pending.progress != bar.progress()) {
+      this.facet.bossBarProgressChanged(bar, pending.progress, bar.progress());
+    }
+    if (pending.color != null && pending.color != bar.color()) {
+      this.facet.bossBarColorChanged(bar, pending.color, bar.color());
+    }
+    if (pending.overlay != null && pending.overlay != bar.overlay()) {
+      this.facet.bossBarOverlayChanged(bar, pending.overlay, bar.overlay());
+    }
+    if (pending.flags != null) {
+      final Set<BossBar.Flag> flagsAdded = EnumSet.noneOf(BossBar.Flag.class);
+      flagsAdded.addAll(bar.flags());
+      flagsAdded.removeAll(pending.flags);
+      final Set<BossBar.Flag> flagsRemoved = EnumSet.noneOf(BossBar.Flag.class);
+      flagsRemoved.addAll(pending.flags);
+      flagsRemoved.removeAll(bar.flags());
+      if (!flagsAdded.isEmpty() || !flagsRemoved.isEmpty()) {
+        this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
+      }
+    }
   }
 
   @Override
@@ -86,6 +211,19 @@ class FacetBossBarListener<V> implements Facet.BossBar<V> {
 
   @Override
   public void close() {
+    synchronized (this) {
+      this.closed = true;
+      this.pending = null;
+    }
     this.facet.close();
   }
+
+  // the values of each changed property when it was first changed since the last flush
+  private static final class Pending {
+    private volatile @Nullable Component name;
+    private volatile float progress = Float.NaN;
+    private volatile BossBar.@Nullable Color color;
+    private volatile BossBar.@Nullable Overlay overlay;
+    private volatile @Nullable Set<BossBar.Flag> flags;
+  }
 }
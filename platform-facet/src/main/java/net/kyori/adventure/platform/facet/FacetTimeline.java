@@ -0,0 +1,423 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.kyori.adventure.title.TitlePart;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sequence of titles, action bars and boss bar changes, played at fixed tick offsets.
+ *
+ * <p>Titles and action bars are rendered and serialized once per partition when the timeline
+ * is played, and every playback of a provider shares a single timer.</p>
+ *
+ * @see FacetAudienceProvider#play(net.kyori.adventure.audience.Audience, FacetTimeline)
+ * @since 4.5.0
+ */
+@ApiStatus.Internal
+public final class FacetTimeline {
+  final List<Frame> frames;
+
+  private FacetTimeline(final @NotNull List<Frame> frames) {
+    this.frames = frames;
+  }
+
+  /**
+   * Creates a new timeline builder.
+   *
+   * @return a builder
+   * @since 4.5.0
+   */
+  public static @NotNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * A builder for a {@link FacetTimeline}.
+   *
+   * <p>Frames at the same tick are played in the order they were added.</p>
+   *
+   * @since 4.5.0
+   */
+  public static final class Builder {
+    private final List<Frame> frames = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Shows a title.
+     *
+     * @param tick the tick offset, from when the timeline is played
+     * @param title a title
+     * @return this builder
+     * @since 4.5.0
+     */
+    public @NotNull Builder title(final int tick, final @NotNull Title title) {
+      requireNonNull(title, "title");
+      return this.frame(new Frame(tick, true, true) {
+        @Override
+        @Nullable Object prepare(final @NotNull FacetAudience<?> audience) {
+          return audience.prepareTitle(title);
+        }
+      });
+    }
+
+    /**
+     * Shows a part of a title.
+     *
+     * @param tick the tick offset, from when the timeline is played
+     * @param part a title part
+     * @param value the value of the part
+     * @param <T> the type of the part
+     * @return this builder
+     * @since 4.5.0
+     */
+    public <T> @NotNull Builder titlePart(final int tick, final @NotNull TitlePart<T> part, final @NotNull T value) {
+      requireNonNull(part, "part");
+      requireNonNull(value, "value");
+      return this.frame(new Frame(tick, true, true) {
+        @Override
+        @Nullable Object prepare(final @NotNull FacetAudience<?> audience) {
+          return audience.prepareTitlePart(part, value);
+        }
+      });
+    }
+
+    /**
+     * Sends an action bar.
+     *
+     * @param tick the tick offset, from when the timeline is played
+     * @param message an action bar
+     * @return this builder
+     * @since 4.5.0
+     */
+    public @NotNull Builder actionBar(final int tick, final @NotNull Component message) {
+      requireNonNull(message, "message");
+      return this.frame(new Frame(tick, false, true) {
+        @Override
+        @Nullable Object prepare(final @NotNull FacetAudience<?> audience) {
+          return audience.prepareActionBar(message);
+        }
+      });
+    }
+
+    /**
+     * Changes the progress of a boss bar.
+     *
+     * @param tick the tick offset, from when the timeline is played
+     * @param bar a boss bar
+     * @param progress the progress, between 0 and 1
+     * @return this builder
+     * @since 4.5.0
+     */
+    public @NotNull Builder bossBarProgress(final int tick, final @NotNull BossBar bar, final float progress) {
+      requireNonNull(bar, "bar");
+      return this.run(tick, () -> bar.progress(progress));
+    }
+
+    /**
+     * Changes the name of a boss bar.
+     *
+     * @param tick the tick offset, from when the timeline is played
+     * @param bar a boss bar
+     * @param name the name
+     * @return this builder
+     * @since 4.5.0
+     */
+    public @NotNull Builder bossBarName(final int tick, final @NotNull BossBar bar, final @NotNull Component name) {
+      requireNonNull(bar, "bar");
+      requireNonNull(name, "name");
+      return this.run(tick, () -> bar.name(name));
+    }
+
+    /**
+     * Runs a task, once per playback.
+     *
+     * @param tick the tick offset, from when the timeline is played
+     * @param task a task
+     * @return this builder
+     * @since 4.5.0
+     */
+    public @NotNull Builder run(final int tick, final @NotNull Runnable task) {
+      requireNonNull(task, "task");
+      return this.frame(new Frame(tick, false, false) {
+        @Override
+        void run() {
+          task.run();
+        }
+      });
+    }
+
+    private @NotNull Builder frame(final @NotNull Frame frame) {
+      if (frame.tick < 0) throw new IllegalArgumentException("tick must not be negative: " + frame.tick);
+      this.frames.add(frame);
+      return this;
+    }
+
+    /**
+     * Builds the timeline.
+     *
+     * @return a timeline
+     * @since 4.5.0
+     */
+    public @NotNull FacetTimeline build() {
+      final List<Frame> frames = new ArrayList<>(this.frames);
+      frames.sort(Comparator.comparingInt(frame -> frame.tick)); // stable, so frames at the same tick keep their order
+      return new FacetTimeline(Collections.unmodifiableList(frames));
+    }
+  }
+
+  /**
+   * A timeline being played to an audience.
+   *
+   * @since 4.5.0
+   */
+  public interface Playback {
+    /**
+     * Stops playing the timeline.
+     *
+     * <p>Frames that were already played are not undone.</p>
+     *
+     * @since 4.5.0
+     */
+    void cancel();
+
+    /**
+     * Gets whether the timeline was cancelled, or has finished playing.
+     *
+     * @return if the timeline is no longer playing
+     * @since 4.5.0
+     */
+    boolean isCancelled();
+  }
+
+  abstract static class Frame {
+    final int tick;
+    final boolean title; // whether the frame is a title, rather than an action bar
+    final boolean shown; // whether the frame is shown to audiences, rather than run once
+
+    Frame(final int tick, final boolean title, final boolean shown) {
+      this.tick = tick;
+      this.title = title;
+      this.shown = shown;
+    }
+
+    /**
+     * Renders this frame for an audience.
+     *
+     * @param audience an audience
+     * @return a prepared message, or {@code null} if it cannot be shown
+     */
+    @Nullable Object prepare(final @NotNull FacetAudience<?> audience) {
+      return null;
+    }
+
+    /**
+     * Runs this frame, if it is not shown to audiences.
+     */
+    void run() {
+    }
+
+    void show(final @NotNull FacetAudience<?> audience, final @NotNull Object prepared) {
+      if (this.title) {
+        audience.showPreparedTitle(prepared);
+      } else {
+        audience.sendPreparedActionBar(prepared);
+      }
+    }
+  }
+
+  static final class Run implements Playback {
+    private final List<Frame> frames;
+    private final List<FacetAudience<?>> audiences;
+    private final Object[][] prepared; // by frame, then by audience
+    private int next;
+    int rounds; // remaining turns of the wheel, guarded by the wheel
+    private volatile boolean cancelled;
+
+    Run(final @NotNull List<Frame> frames, final @NotNull List<FacetAudience<?>> audiences, final Object[][] prepared) {
+      this.frames = frames;
+      this.audiences = audiences;
+      this.prepared = prepared;
+    }
+
+    /**
+     * Plays every frame at the tick of the next frame.
+     *
+     * @return the ticks until the next frame, or {@code -1} if there are no more frames
+     */
+    int advance() {
+      if (this.cancelled) return -1;
+
+      final int tick = this.frames.get(this.next).tick;
+      for (; this.next < this.frames.size() && this.frames.get(this.next).tick == tick; this.next++) {
+        final Frame frame = this.frames.get(this.next);
+        final Object[] prepared = this.prepared[this.next];
+        try {
+          if (prepared == null) {
+            frame.run();
+          } else {
+            for (int i = 0; i < prepared.length; i++) {
+              if (prepared[i] != null) {
+                frame.show(this.audiences.get(i), prepared[i]);
+              }
+            }
+          }
+        } catch (final Throwable error) {
+          Knob.logError(error, "Failed to play timeline frame at tick %s", tick);
+        }
+      }
+
+      if (this.next >= this.frames.size()) {
+        this.cancelled = true;
+        return -1;
+      }
+      return this.frames.get(this.next).tick - tick;
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.cancelled;
+    }
+  }
+
+  /**
+   * A hashed wheel timer, advanced once per tick.
+   *
+   * <p>Scheduling and cancelling are constant time, and each tick only visits a single bucket.</p>
+   */
+  static final class Wheel {
+    private static final int BUCKETS = 256; // must be a power of two
+    private final Queue<Object[]> incoming = new ConcurrentLinkedQueue<>(); // run, delay
+    @SuppressWarnings("unchecked")
+    private final List<Run>[] buckets = new List[BUCKETS];
+    private int cursor;
+    private int size;
+
+    /**
+     * Schedules a run to advance after a delay.
+     *
+     * <p>This may be called from any thread.</p>
+     *
+     * @param run a run
+     * @param delay the delay, in ticks
+     */
+    void schedule(final @NotNull Run run, final int delay) {
+      this.incoming.add(new Object[] {run, delay});
+    }
+
+    /**
+     * Advances the wheel by one tick.
+     *
+     * @return if there are runs left to advance
+     */
+    boolean tick() {
+      Object[] scheduled;
+      while ((scheduled = this.incoming.poll()) != null) {
+        this.add((Run) scheduled[0], (Integer) scheduled[1]);
+      }
+
+      this.cursor = (this.cursor + 1) & (BUCKETS - 1);
+      final List<Run> bucket = this.buckets[this.cursor];
+      if (bucket != null && !bucket.isEmpty()) {
+        final List<Run> due = new ArrayList<>();
+        for (final Iterator<Run> it = bucket.iterator(); it.hasNext(); ) {
+          final Run run = it.next();
+          if (run.isCancelled()) {
+            it.remove();
+            this.size--;
+          } else if (run.rounds > 0) {
+            run.rounds--;
+          } else {
+            it.remove();
+            this.size--;
+            due.add(run);
+          }
+        }
+        for (final Run run : due) {
+          final int delay = run.advance();
+          if (delay > 0) {
+            this.add(run, delay);
+          }
+        }
+      }
+      return this.size > 0 || !this.incoming.isEmpty();
+    }
+
+    private void add(final @NotNull Run run, final int delay) {
+      // the cursor has not advanced yet, so a delay of one lands on the next tick,
+      // while a delay of zero would land on the current bucket and only be reached a whole turn later
+      final int ticks = Math.max(1, delay);
+      final int index = (this.cursor + ticks) & (BUCKETS - 1);
+      run.rounds = (ticks - 1) / BUCKETS;
+      List<Run> bucket = this.buckets[index];
+      if (bucket == null) {
+        bucket = this.buckets[index] = new ArrayList<>();
+      }
+      bucket.add(run);
+      this.size++;
+    }
+
+    /**
+     * Gets whether there are runs waiting to be added to the wheel.
+     *
+     * <p>This may be called from any thread.</p>
+     *
+     * @return if there are runs waiting
+     */
+    boolean hasIncoming() {
+      return !this.incoming.isEmpty();
+    }
+
+    void clear() {
+      this.incoming.clear();
+      for (final List<Run> bucket : this.buckets) {
+        if (bucket != null) {
+          bucket.clear();
+        }
+      }
+      this.size = 0;
+    }
+  }
+}
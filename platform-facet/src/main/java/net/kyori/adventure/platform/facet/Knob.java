@@ -70,6 +70,20 @@ public final class Knob {
       .equalsIgnoreCase("true");
   }
 
+  /**
+   * Gets an integer option.
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.<key>=<value>}, to set the option.</p>
+   *
+   * @param key a key
+   * @param defaultValue the default value
+   * @return the option value
+   * @since 4.5.0
+   */
+  public static int getInt(final @NotNull String key, final int defaultValue) {
+    return Integer.getInteger(NAMESPACE + "." + key, defaultValue);
+  }
+
   /**
    * Logs an error.
    *
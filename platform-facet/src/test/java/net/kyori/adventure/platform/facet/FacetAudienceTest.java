@@ -0,0 +1,93 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static net.kyori.adventure.text.Component.text;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class FacetAudienceTest {
+  private String locale = "en";
+  private final List<String[]> sent = new ArrayList<>();
+
+  @Test
+  void testRefreshSerializesUnchangedTabListHalfAgain() {
+    final FacetAudience<String> audience = this.audience();
+    audience.sendPlayerListHeaderAndFooter(text("header"), text("footer"));
+    assertArrayEquals(new String[] {"en:header", "en:footer"}, this.lastSent());
+
+    this.locale = "de";
+    audience.refresh();
+    audience.sendPlayerListHeader(text("welcome"));
+    assertArrayEquals(new String[] {"de:welcome", "de:footer"}, this.lastSent());
+  }
+
+  @Test
+  void testNewViewerSerializesUnchangedTabListHalfAgain() {
+    final FacetAudience<String> audience = this.audience();
+    audience.sendPlayerListHeaderAndFooter(text("header"), text("footer"));
+
+    this.locale = "de";
+    audience.addViewer("other");
+    audience.sendPlayerListFooter(text("goodbye"));
+    assertArrayEquals(new String[] {"de:header", "de:goodbye"}, this.lastSent());
+  }
+
+  private String[] lastSent() {
+    return this.sent.get(this.sent.size() - 1);
+  }
+
+  private FacetAudience<String> audience() {
+    final ComponentRenderer<Pointered> renderer = (component, context) -> text(this.locale + ":" + ((TextComponent) component).content());
+    final Facet.TabList<String, String> tabList = new Facet.TabList<String, String>() {
+      @Override
+      public @NotNull String createMessage(final @NotNull String viewer, final @NotNull Component message) {
+        return ((TextComponent) message).content();
+      }
+
+      @Override
+      public void send(final String viewer, final @Nullable String header, final @Nullable String footer) {
+        FacetAudienceTest.this.sent.add(new String[] {header, footer});
+      }
+    };
+    final FacetAudienceProvider<String, FacetAudience<String>> provider = new FacetAudienceProvider<String, FacetAudience<String>>(renderer) {
+      @Override
+      protected @NotNull FacetAudience<String> createAudience(final @NotNull Collection<String> viewers) {
+        return new FacetAudience<>(this, viewers, null, null, null, null, null, null, null, Collections.singletonList(tabList), null);
+      }
+    };
+    return provider.createAudience(Collections.singletonList("viewer"));
+  }
+}
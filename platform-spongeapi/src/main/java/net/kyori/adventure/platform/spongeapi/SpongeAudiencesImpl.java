@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -42,6 +43,7 @@ import net.kyori.adventure.text.flattener.ComponentFlattener;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.translation.GlobalTranslator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.Game;
@@ -54,6 +56,7 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.game.GameReloadEvent;
 import org.spongepowered.api.event.game.state.GameStartingServerEvent;
 import org.spongepowered.api.event.game.state.GameStoppedServerEvent;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
@@ -96,11 +99,11 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
 
   @Inject
   SpongeAudiencesImpl(final @NotNull PluginContainer plugin, final @NotNull Game game) {
-    this(plugin, game, GlobalTranslator.renderer().mapContext(ptr -> ptr.getOrDefault(Identity.LOCALE, FacetAudienceProvider.DEFAULT_LOCALE)));
+    this(plugin, game, GlobalTranslator.renderer().mapContext(ptr -> ptr.getOrDefault(Identity.LOCALE, FacetAudienceProvider.DEFAULT_LOCALE)), DEFAULT_PARTITION, null);
   }
 
-  SpongeAudiencesImpl(final @NotNull PluginContainer plugin, final @NotNull Game game, final @NotNull ComponentRenderer<Pointered> componentRenderer) {
-    super(componentRenderer);
+  SpongeAudiencesImpl(final @NotNull PluginContainer plugin, final @NotNull Game game, final @NotNull ComponentRenderer<Pointered> componentRenderer, final @NotNull Function<Pointered, ?> partition, final @Nullable Executor renderExecutor) {
+    super(componentRenderer, partition, renderExecutor);
     this.plugin = plugin;
     this.game = game;
     this.eventManager = game.getEventManager();
@@ -149,6 +152,11 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
     return this.flattener;
   }
 
+  @Override
+  protected @NotNull Executor tickExecutor() {
+    return task -> this.game.getScheduler().createTaskBuilder().execute(task).submit(this.plugin);
+  }
+
   @Override
   public void close() {
     INSTANCES.remove(this.plugin.getId());
@@ -160,6 +168,8 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
     private final @NotNull PluginContainer plugin;
     private final @NotNull Game game;
     private ComponentRenderer<Pointered> componentRenderer;
+    private Function<Pointered, ?> partition = DEFAULT_PARTITION;
+    private @Nullable Executor renderExecutor;
 
     Builder(final @NotNull PluginContainer plugin, final @NotNull Game game) {
       super();
@@ -176,13 +186,19 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
 
     @Override
     public SpongeAudiences.@NotNull Builder partition(final @NotNull Function<Pointered, ?> partitionFunction) {
-      requireNonNull(partitionFunction, "partitionFunction");
+      this.partition = requireNonNull(partitionFunction, "partitionFunction");
+      return this;
+    }
+
+    @Override
+    public SpongeAudiences.@NotNull Builder renderExecutor(final @NotNull Executor renderExecutor) {
+      this.renderExecutor = requireNonNull(renderExecutor, "renderExecutor");
       return this;
     }
 
     @Override
     public @NotNull SpongeAudiences build() {
-      return INSTANCES.computeIfAbsent(this.plugin.getId(), id -> new SpongeAudiencesImpl(this.plugin, this.game, this.componentRenderer));
+      return INSTANCES.computeIfAbsent(this.plugin.getId(), id -> new SpongeAudiencesImpl(this.plugin, this.game, this.componentRenderer, this.partition, this.renderExecutor));
     }
   }
 
@@ -197,8 +213,14 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
       SpongeAudiencesImpl.this.removeViewer(event.getTargetEntity());
     }
 
+    @Listener
+    public void onReload(final @NotNull GameReloadEvent event) {
+      SpongeFacet.clearCatalogs();
+    }
+
     @Listener
     public void onStart(final @NotNull GameStartingServerEvent event) {
+      SpongeFacet.clearCatalogs();
       SpongeAudiencesImpl.this.addViewer(SpongeAudiencesImpl.this.game.getServer().getConsole());
     }
 
@@ -26,8 +26,11 @@ package net.kyori.adventure.platform.spongeapi;
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.Lists;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.key.Key;
@@ -69,6 +72,7 @@ import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.Locatable;
 
 import static java.util.Objects.requireNonNull;
+import static net.kyori.adventure.platform.facet.Knob.getInt;
 import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
 import static net.kyori.adventure.text.serializer.spongeapi.SpongeComponentSerializer.get;
 
@@ -77,22 +81,43 @@ class SpongeFacet<V> extends FacetBase<V> {
     super(viewerClass);
   }
 
+  private static final int CATALOG_CACHE_SIZE = getInt("catalog-cache-size", 256);
+  // resolved catalog types by catalog type and adventure value, and the values that resolved to nothing
+  private static final Map<Class<?>, Map<Object, CatalogType>> CATALOGS = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Set<Object>> MISSING_CATALOGS = new ConcurrentHashMap<>();
+
+  static void clearCatalogs() {
+    CATALOGS.clear();
+    MISSING_CATALOGS.clear();
+  }
+
   public <K, S extends CatalogType> @Nullable S sponge(final @NotNull Class<S> spongeType, final @NotNull K value, final @NotNull Index<String, K> elements) {
-    return Sponge.getRegistry()
-      .getType(spongeType, elements.key(requireNonNull(value, "value")))
-      .orElseGet(() -> {
-        logUnsupported(this, value);
-        return null;
-      });
+    return this.catalog(spongeType, requireNonNull(value, "value"), () -> elements.key(value));
   }
 
   public <S extends CatalogType> @Nullable S sponge(final @NotNull Class<S> spongeType, final @NotNull Key identifier) {
-    return Sponge.getRegistry()
-      .getType(spongeType, requireNonNull(identifier, "Identifier must be non-null").asString())
-      .orElseGet(() -> {
-        logUnsupported(this, identifier);
-        return null;
-      });
+    return this.catalog(spongeType, requireNonNull(identifier, "Identifier must be non-null"), identifier::asString);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <S extends CatalogType> @Nullable S catalog(final @NotNull Class<S> spongeType, final @NotNull Object value, final @NotNull Supplier<String> id) {
+    final Map<Object, CatalogType> catalogs = CATALOGS.computeIfAbsent(spongeType, key -> new ConcurrentHashMap<>());
+    final CatalogType cached = catalogs.get(value);
+    if (cached != null) return (S) cached;
+    final Set<Object> missing = MISSING_CATALOGS.computeIfAbsent(spongeType, key -> ConcurrentHashMap.newKeySet());
+    if (missing.contains(value)) return null;
+
+    final Optional<S> type = Sponge.getRegistry().getType(spongeType, id.get());
+    if (type.isPresent()) {
+      catalogs.putIfAbsent(value, type.get());
+      return type.get();
+    }
+    logUnsupported(this, value);
+    // hits are bounded by the registry, but misses can be any key, so only remember so many of them
+    if (missing.size() < CATALOG_CACHE_SIZE) {
+      missing.add(value);
+    }
+    return null;
   }
 
   static class Message<V> extends SpongeFacet<V> implements Facet.Message<V, Text> {
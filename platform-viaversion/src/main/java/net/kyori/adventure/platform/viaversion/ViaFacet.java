@@ -31,13 +31,18 @@ import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonParser;
+import io.netty.channel.Channel;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import net.kyori.adventure.audience.MessageType;
@@ -46,6 +51,7 @@ import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetBase;
 import net.kyori.adventure.platform.facet.Knob;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -59,6 +65,8 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
   private static final String PACKAGE = "com.viaversion.viaversion";
   private static final int SUPPORTED_VIA_MAJOR_VERSION = 4;
   private static final boolean SUPPORTED;
+  // component trees of serialized messages, so each packet copies a tree instead of parsing the message again
+  private static final Map<String, JsonElement> TREES = Collections.synchronizedMap(new WeakHashMap<>());
 
   static {
     boolean supported = false;
@@ -112,11 +120,13 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
   @Override
   public String createMessage(final @NotNull V viewer, final @NotNull Component message) {
     final int protocol = this.findProtocol(viewer);
-    if (protocol >= PROTOCOL_HEX_COLOR) {
-      return gson().serialize(message);
-    } else {
-      return colorDownsamplingGson().serialize(message);
-    }
+    final GsonComponentSerializer serializer = protocol >= PROTOCOL_HEX_COLOR ? gson() : colorDownsamplingGson();
+    final ViaJsonTreeWriter writer = new ViaJsonTreeWriter();
+    serializer.serializer().toJson(message, Component.class, writer);
+    final JsonElement tree = writer.get();
+    final String json = tree.toString();
+    TREES.put(json, tree); // kept while the message is
+    return json;
   }
 
   public static class ProtocolBased<V> extends ViaFacet<V> {
@@ -174,7 +184,9 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     }
 
     public @NotNull JsonElement parse(final @NotNull String message) {
-      return JsonParser.parseString(message);
+      final JsonElement tree = TREES.get(message);
+      // Via rewrites component trees in place, so every packet needs its own
+      return tree == null ? JsonParser.parseString(message) : tree.deepCopy();
     }
   }
 
@@ -423,6 +435,7 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
   }
 
   public static final class TabList<V> extends ProtocolBased<V> implements Facet.TabList<V, String> {
+    private static final String EMPTY_MESSAGE = "{\"text\":\"\"}";
 
     public TabList(final @NotNull Class<? extends V> viewerClass, final @NotNull Function<V, UserConnection> userConnection) {
       super("1_16", "1_15_2", PROTOCOL_HEX_COLOR, "TAB_LIST", viewerClass, userConnection);
@@ -431,9 +444,36 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     @Override
     public void send(final V viewer, final @Nullable String header, final @Nullable String footer) {
       final PacketWrapper packet = this.createPacket(viewer);
-      packet.write(Type.COMPONENT, this.parse(header));
-      packet.write(Type.COMPONENT, this.parse(footer));
+      // the packet always carries both halves, so a missing one is sent empty
+      packet.write(Type.COMPONENT, this.parse(header == null ? EMPTY_MESSAGE : header));
+      packet.write(Type.COMPONENT, this.parse(footer == null ? EMPTY_MESSAGE : footer));
       this.sendPacket(packet);
     }
   }
+
+  public static final class Connection<V> extends ViaFacet<V> implements Facet.Connection<V> {
+    public Connection(final @NotNull Class<? extends V> viewerClass, final @NotNull Function<V, UserConnection> userConnection) {
+      super(viewerClass, userConnection, 0);
+    }
+
+    @Override
+    public boolean isApplicable(final @NotNull V viewer) {
+      // Any viewer with a connection, not only those on a newer protocol than the server
+      return this.viewerClass != null && this.viewerClass.isInstance(viewer) && this.findConnection(viewer) != null;
+    }
+
+    @Override
+    public boolean isWritable(final @NotNull V viewer) {
+      final UserConnection connection = this.findConnection(viewer);
+      final Channel channel = connection == null ? null : connection.getChannel();
+      return channel == null || channel.isWritable();
+    }
+
+    @Override
+    public @Nullable Executor eventLoop(final @NotNull V viewer) {
+      final UserConnection connection = this.findConnection(viewer);
+      final Channel channel = connection == null ? null : connection.getChannel();
+      return channel == null ? null : channel.eventLoop();
+    }
+  }
 }
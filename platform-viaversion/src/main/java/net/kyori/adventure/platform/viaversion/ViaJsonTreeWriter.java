@@ -0,0 +1,231 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.viaversion;
+
+import com.google.gson.stream.JsonWriter;
+import com.viaversion.viaversion.libs.gson.JsonArray;
+import com.viaversion.viaversion.libs.gson.JsonElement;
+import com.viaversion.viaversion.libs.gson.JsonNull;
+import com.viaversion.viaversion.libs.gson.JsonObject;
+import com.viaversion.viaversion.libs.gson.JsonParser;
+import com.viaversion.viaversion.libs.gson.JsonPrimitive;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link JsonWriter} that builds a tree of ViaVersion's relocated Gson elements.
+ *
+ * <p>This lets a component be streamed from adventure's serializer straight into
+ * the tree ViaVersion expects in its packets, so the serialized message does not
+ * have to be parsed again for every packet.</p>
+ */
+final class ViaJsonTreeWriter extends JsonWriter {
+  private static final Writer UNWRITABLE_WRITER = new Writer() {
+    @Override
+    public void write(final char@NotNull[] buffer, final int offset, final int length) {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void flush() {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void close() {
+      throw new AssertionError();
+    }
+  };
+
+  private final List<JsonElement> stack = new ArrayList<>();
+  private String pendingName;
+  private JsonElement product = JsonNull.INSTANCE;
+
+  ViaJsonTreeWriter() {
+    super(UNWRITABLE_WRITER);
+  }
+
+  @NotNull JsonElement get() {
+    if (!this.stack.isEmpty()) {
+      throw new IllegalStateException("Expected one JSON element but was " + this.stack);
+    }
+    return this.product;
+  }
+
+  private JsonElement peek() {
+    return this.stack.get(this.stack.size() - 1);
+  }
+
+  private void put(final @NotNull JsonElement value) {
+    if (this.pendingName != null) {
+      if (!value.isJsonNull() || this.getSerializeNulls()) {
+        ((JsonObject) this.peek()).add(this.pendingName, value);
+      }
+      this.pendingName = null;
+    } else if (this.stack.isEmpty()) {
+      this.product = value;
+    } else {
+      final JsonElement element = this.peek();
+      if (!(element instanceof JsonArray)) {
+        throw new IllegalStateException();
+      }
+      ((JsonArray) element).add(value);
+    }
+  }
+
+  @Override
+  public JsonWriter beginArray() {
+    final JsonArray array = new JsonArray();
+    this.put(array);
+    this.stack.add(array);
+    return this;
+  }
+
+  @Override
+  public JsonWriter endArray() {
+    if (this.stack.isEmpty() || this.pendingName != null || !(this.peek() instanceof JsonArray)) {
+      throw new IllegalStateException();
+    }
+    this.stack.remove(this.stack.size() - 1);
+    return this;
+  }
+
+  @Override
+  public JsonWriter beginObject() {
+    final JsonObject object = new JsonObject();
+    this.put(object);
+    this.stack.add(object);
+    return this;
+  }
+
+  @Override
+  public JsonWriter endObject() {
+    if (this.stack.isEmpty() || this.pendingName != null || !(this.peek() instanceof JsonObject)) {
+      throw new IllegalStateException();
+    }
+    this.stack.remove(this.stack.size() - 1);
+    return this;
+  }
+
+  @Override
+  public JsonWriter name(final @NotNull String name) {
+    requireNonNull(name, "name");
+    if (this.stack.isEmpty() || this.pendingName != null || !(this.peek() instanceof JsonObject)) {
+      throw new IllegalStateException();
+    }
+    this.pendingName = name;
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(final @Nullable String value) {
+    if (value == null) {
+      return this.nullValue();
+    }
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter jsonValue(final @Nullable String value) {
+    this.put(value == null ? JsonNull.INSTANCE : JsonParser.parseString(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter nullValue() {
+    this.put(JsonNull.INSTANCE);
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(final boolean value) {
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(final @Nullable Boolean value) {
+    if (value == null) {
+      return this.nullValue();
+    }
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(final double value) {
+    if (!this.isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+      throw new IllegalArgumentException("JSON forbids NaN and infinities: " + value);
+    }
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  // Only present in newer versions of Gson, where it would otherwise write to the underlying writer
+  public JsonWriter value(final float value) {
+    if (!this.isLenient() && (Float.isNaN(value) || Float.isInfinite(value))) {
+      throw new IllegalArgumentException("JSON forbids NaN and infinities: " + value);
+    }
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(final long value) {
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(final @Nullable Number value) {
+    if (value == null) {
+      return this.nullValue();
+    }
+    if (!this.isLenient()) {
+      final double d = value.doubleValue();
+      if (Double.isNaN(d) || Double.isInfinite(d)) {
+        throw new IllegalArgumentException("JSON forbids NaN and infinities: " + value);
+      }
+    }
+    this.put(new JsonPrimitive(value));
+    return this;
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void close() {
+    if (!this.stack.isEmpty()) {
+      throw new IllegalStateException("Incomplete document");
+    }
+  }
+}
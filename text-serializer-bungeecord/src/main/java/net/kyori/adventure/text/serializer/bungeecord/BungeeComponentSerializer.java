@@ -24,6 +24,7 @@
 package net.kyori.adventure.text.serializer.bungeecord;
 
 import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -117,12 +118,21 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
   private final GsonComponentSerializer serializer;
   private final LegacyComponentSerializer legacySerializer;
+  private volatile TypeAdapter<Component> adapter;
 
   private BungeeComponentSerializer(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer) {
     this.serializer = serializer;
     this.legacySerializer = legacySerializer;
   }
 
+  private TypeAdapter<Component> adapter() {
+    TypeAdapter<Component> adapter = this.adapter;
+    if (adapter == null) {
+      adapter = this.adapter = this.serializer.serializer().getAdapter(Component.class);
+    }
+    return adapter;
+  }
+
   private static void bind() {
     try {
       final Field gsonField = GsonInjections.field(net.md_5.bungee.chat.ComponentSerializer.class, "gson");
@@ -178,7 +188,8 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     @Override
     public void write(final JsonWriter out) throws IOException {
-      BungeeComponentSerializer.this.serializer.serializer().getAdapter(Component.class).write(out, this.component);
+      // stream straight into Bungee's writer, no intermediate string or tree
+      BungeeComponentSerializer.this.adapter().write(out, this.component);
     }
   }
 }